@@ -46,6 +46,11 @@ public class CursorClipImpl implements INoteClip
 
     private final IStepInfo [] [] [] launcherData;
     private final PinnableCursorClip launcherClip;
+
+    // Occupancy index of all steps which are not off, updated when step data arrives
+    private final int [] []          rowCounts;
+    private final int [] []          columnCounts;
+    private final long [] []         rowBits;
     private int                      editPage        = 0;
     private double                   stepLength;
     private final List<NotePosition> editSteps       = new ArrayList<> ();
@@ -70,6 +75,9 @@ public class CursorClipImpl implements INoteClip
         this.stepLength = 1.0 / 4.0; // 16th
 
         this.launcherData = new IStepInfo [16] [this.numSteps] [];
+        this.rowCounts = new int [16] [this.numRows];
+        this.columnCounts = new int [16] [this.numSteps];
+        this.rowBits = new long [16] [(this.numRows + 63) / 64];
 
         // TODO Bugfix required: https://github.com/teotigraphix/Framework4Bitwig/issues/140
         this.launcherClip = cursorTrack.createLauncherCursorClip (this.numSteps, this.numRows);
@@ -959,13 +967,7 @@ public class CursorClipImpl implements INoteClip
     @Override
     public boolean hasRowData (final int channel, final int row)
     {
-        final IStepInfo [] [] [] data = this.getStepInfos ();
-        for (int step = 0; step < this.numSteps; step++)
-        {
-            if (data[channel] != null && data[channel][step] != null && data[channel][step][row] != null && data[channel][step][row].getState () != StepState.OFF)
-                return true;
-        }
-        return false;
+        return row >= 0 && row < this.numRows && this.rowCounts[channel][row] > 0;
     }
 
 
@@ -973,13 +975,7 @@ public class CursorClipImpl implements INoteClip
     @Override
     public boolean hasColumnData (final int channel, final int column)
     {
-        final IStepInfo [] [] [] data = this.getStepInfos ();
-        for (int row = 0; row < 128; row++)
-        {
-            if (data[channel] != null && data[channel][column] != null && data[channel][column][row] != null && data[channel][column][row].getState () != StepState.OFF)
-                return true;
-        }
-        return false;
+        return column >= 0 && column < this.numSteps && this.columnCounts[channel][column] > 0;
     }
 
 
@@ -987,14 +983,15 @@ public class CursorClipImpl implements INoteClip
     @Override
     public int getLowestRowWithData ()
     {
-        int min = 128;
-        for (int channel = 0; channel < 16; channel++)
+        for (int word = 0; word < this.rowBits[0].length; word++)
         {
-            final int lower = this.getLowestRowWithData (channel);
-            if (lower >= 0 && lower < min)
-                min = lower;
+            long bits = 0;
+            for (int channel = 0; channel < 16; channel++)
+                bits |= this.rowBits[channel][word];
+            if (bits != 0)
+                return word * 64 + Long.numberOfTrailingZeros (bits);
         }
-        return min == 128 ? -1 : min;
+        return -1;
     }
 
 
@@ -1002,14 +999,15 @@ public class CursorClipImpl implements INoteClip
     @Override
     public int getHighestRowWithData ()
     {
-        int max = -1;
-        for (int channel = 0; channel < 16; channel++)
+        for (int word = this.rowBits[0].length - 1; word >= 0; word--)
         {
-            final int upper = this.getHighestRowWithData (channel);
-            if (upper >= 0 && upper > max)
-                max = upper;
+            long bits = 0;
+            for (int channel = 0; channel < 16; channel++)
+                bits |= this.rowBits[channel][word];
+            if (bits != 0)
+                return word * 64 + 63 - Long.numberOfLeadingZeros (bits);
         }
-        return max;
+        return -1;
     }
 
 
@@ -1017,9 +1015,12 @@ public class CursorClipImpl implements INoteClip
     @Override
     public int getLowestRowWithData (final int channel)
     {
-        for (int row = 0; row < this.numRows; row++)
-            if (this.hasRowData (channel, row))
-                return row;
+        final long [] bits = this.rowBits[channel];
+        for (int word = 0; word < bits.length; word++)
+        {
+            if (bits[word] != 0)
+                return word * 64 + Long.numberOfTrailingZeros (bits[word]);
+        }
         return -1;
     }
 
@@ -1028,9 +1029,12 @@ public class CursorClipImpl implements INoteClip
     @Override
     public int getHighestRowWithData (final int channel)
     {
-        for (int row = this.numRows - 1; row >= 0; row--)
-            if (this.hasRowData (channel, row))
-                return row;
+        final long [] bits = this.rowBits[channel];
+        for (int word = bits.length - 1; word >= 0; word--)
+        {
+            if (bits[word] != 0)
+                return word * 64 + 63 - Long.numberOfLeadingZeros (bits[word]);
+        }
         return -1;
     }
 
@@ -1039,9 +1043,12 @@ public class CursorClipImpl implements INoteClip
     @Override
     public int getHighestRow (final int channel, final int step)
     {
+        if (!this.hasColumnData (channel, step))
+            return -1;
+
+        final IStepInfo [] [] [] data = this.getStepInfos ();
         for (int row = this.numRows - 1; row >= 0; row--)
         {
-            final IStepInfo [] [] [] data = this.getStepInfos ();
             if (data[channel] != null && data[channel][step] != null && data[channel][step][row] != null && data[channel][step][row].getState () != StepState.OFF)
                 return row;
         }
@@ -1282,7 +1289,37 @@ public class CursorClipImpl implements INoteClip
                 return;
         }
 
-        this.getUpdateableStep (new NotePosition (channel, step, note)).updateData (noteStep);
+        final StepInfoImpl stepInfo = this.getUpdateableStep (new NotePosition (channel, step, note));
+        final boolean hadData = stepInfo.getState () != StepState.OFF;
+        stepInfo.updateData (noteStep);
+        final boolean hasData = stepInfo.getState () != StepState.OFF;
+        if (hadData != hasData)
+            this.updateOccupancy (channel, step, note, hasData);
+    }
+
+
+    /**
+     * Update the occupancy index of a step which changed from off to on or vice versa.
+     *
+     * @param channel The MIDI channel
+     * @param step The step
+     * @param row The row
+     * @param hasData True if the step is now not off
+     */
+    private void updateOccupancy (final int channel, final int step, final int row, final boolean hasData)
+    {
+        if (channel < 0 || channel >= 16 || step < 0 || step >= this.numSteps || row < 0 || row >= this.numRows)
+            return;
+
+        final int delta = hasData ? 1 : -1;
+        this.columnCounts[channel][step] += delta;
+        this.rowCounts[channel][row] += delta;
+
+        final long mask = 1L << (row & 63);
+        if (this.rowCounts[channel][row] > 0)
+            this.rowBits[channel][row >> 6] |= mask;
+        else
+            this.rowBits[channel][row >> 6] &= ~mask;
     }
 
 
@@ -48,6 +48,7 @@ import de.mossgrabers.framework.parameter.NoteAttribute;
 import de.mossgrabers.framework.usb.IUsbDevice;
 import de.mossgrabers.framework.usb.UsbException;
 import de.mossgrabers.framework.utils.ConsoleLogger;
+import de.mossgrabers.framework.utils.TimerWheel;
 
 
 /**
@@ -90,8 +91,10 @@ public class HostImpl implements IHost
         CAPABILITIES.add (Capability.MPE_PITCH_RANGE);
     }
 
-    private final ControllerHost   host;
-    private final List<IUsbDevice> usbDevices = new ArrayList<> ();
+    private final ControllerHost                   host;
+    private final List<IUsbDevice>                 usbDevices = new ArrayList<> ();
+    private final List<OpenSoundControlClientImpl> oscClients = new ArrayList<> ();
+    private final TimerWheel                       timerWheel = new TimerWheel (this);
 
 
     /**
@@ -170,6 +173,14 @@ public class HostImpl implements IHost
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public TimerWheel getTimerWheel ()
+    {
+        return this.timerWheel;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void error (final String text)
@@ -212,7 +223,9 @@ public class HostImpl implements IHost
     public IOpenSoundControlClient connectToOSCServer (final String serverAddress, final int serverPort)
     {
         final OscModule oscModule = this.host.getOscModule ();
-        return new OpenSoundControlClientImpl (oscModule.connectToUdpServer (serverAddress, serverPort, oscModule.createAddressSpace ()));
+        final OpenSoundControlClientImpl oscClient = new OpenSoundControlClientImpl (this, oscModule.connectToUdpServer (serverAddress, serverPort, oscModule.createAddressSpace ()));
+        this.oscClients.add (oscClient);
+        return oscClient;
     }
 
 
@@ -239,7 +252,11 @@ public class HostImpl implements IHost
     @Override
     public void releaseOSC ()
     {
-        // This is automatically handled by the Bitwig framework
+        // The connections are automatically handled by the Bitwig framework but the send threads
+        // need to be stopped
+        for (final OpenSoundControlClientImpl oscClient: this.oscClients)
+            oscClient.shutdown ();
+        this.oscClients.clear ();
     }
 
 
@@ -227,8 +227,6 @@ public class ModelImpl extends AbstractModel
         this.masterTrackEqualsValue.markInterested ();
 
         this.currentTrackBank = this.trackBank;
-
-        controllerHost.scheduleTask (this::flushWorkaround, 4000);
     }
 
 
@@ -246,19 +244,6 @@ public class ModelImpl extends AbstractModel
     }
 
 
-    /**
-     * Workaround for flush only happening if state changes since Bitwig 3.1 (which is intended and
-     * not a bug).
-     */
-    private void flushWorkaround ()
-    {
-        // There are enough flushes happening if play-back is active
-        if (!this.getTransport ().isPlaying ())
-            this.controllerHost.requestFlush ();
-        this.controllerHost.scheduleTask (this::flushWorkaround, 100);
-    }
-
-
     /** {@inheritDoc} */
     @Override
     public boolean isCursorDeviceOnMasterTrack ()
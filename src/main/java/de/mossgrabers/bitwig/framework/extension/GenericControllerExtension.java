@@ -5,6 +5,7 @@
 package de.mossgrabers.bitwig.framework.extension;
 
 import de.mossgrabers.framework.controller.IControllerSetup;
+import de.mossgrabers.framework.daw.IModel;
 
 import com.bitwig.extension.controller.ControllerExtension;
 import com.bitwig.extension.controller.ControllerExtensionDefinition;
@@ -18,7 +19,11 @@ import com.bitwig.extension.controller.api.ControllerHost;
  */
 public class GenericControllerExtension extends ControllerExtension
 {
+    /** The maximum time in milliseconds between two flushes while the transport is stopped. */
+    private static final int             IDLE_FLUSH_INTERVAL = 100;
+
     private final IControllerSetup<?, ?> setup;
+    private long                         lastFlush           = 0;
 
 
     /**
@@ -45,6 +50,7 @@ public class GenericControllerExtension extends ControllerExtension
             this.setup.startup ();
             host.println ("Running.");
         }, 1000);
+        host.scheduleTask (this::flushWorkaround, 4000);
     }
 
 
@@ -60,6 +66,33 @@ public class GenericControllerExtension extends ControllerExtension
     @Override
     public void flush ()
     {
+        this.lastFlush = System.currentTimeMillis ();
         this.setup.flush ();
     }
+
+
+    /**
+     * Workaround for flush only happening if state changes since Bitwig 3.1 (which is intended and
+     * not a bug). The periodic flush cannot be replaced by tracking the changes of the observed
+     * values: blinking pads and buttons, the timeout of notifications and other time based states of
+     * the surfaces change without any value change in the DAW. Therefore, a flush is requested if
+     * the DAW did not flush within the idle interval. If the DAW flushes anyway (e.g. when values
+     * change while the transport is stopped) no additional flushes are requested.
+     */
+    private void flushWorkaround ()
+    {
+        final ControllerHost host = this.getHost ();
+        final long delay = this.lastFlush + IDLE_FLUSH_INTERVAL - System.currentTimeMillis ();
+        if (delay > 0)
+        {
+            host.scheduleTask (this::flushWorkaround, delay);
+            return;
+        }
+
+        // There are enough flushes happening if play-back is active
+        final IModel model = this.setup.getModel ();
+        if (model == null || !model.getTransport ().isPlaying ())
+            host.requestFlush ();
+        host.scheduleTask (this::flushWorkaround, IDLE_FLUSH_INTERVAL);
+    }
 }
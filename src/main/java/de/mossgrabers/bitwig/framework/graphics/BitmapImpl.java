@@ -17,12 +17,36 @@ import de.mossgrabers.framework.graphics.IRenderer;
 /**
  * Implementation of a bitmap.
  *
- * @param bitmap The Bitwig bitmap
- *
  * @author Jürgen Moßgraber
  */
-public record BitmapImpl (Bitmap bitmap) implements IBitmap
+public class BitmapImpl implements IBitmap
 {
+    private final Bitmap           bitmap;
+    private final TextMetricsCache textMetrics = new TextMetricsCache ();
+
+
+    /**
+     * Constructor.
+     *
+     * @param bitmap The Bitwig bitmap
+     */
+    public BitmapImpl (final Bitmap bitmap)
+    {
+        this.bitmap = bitmap;
+    }
+
+
+    /**
+     * Get the Bitwig bitmap.
+     *
+     * @return The bitmap
+     */
+    public Bitmap bitmap ()
+    {
+        return this.bitmap;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void setDisplayWindowTitle (final String title)
@@ -39,11 +63,27 @@ public record BitmapImpl (Bitmap bitmap) implements IBitmap
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public double getWidth ()
+    {
+        return this.bitmap.getWidth ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getHeight ()
+    {
+        return this.bitmap.getHeight ();
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void render (final boolean enableAntialias, final IRenderer renderer)
     {
-        this.bitmap.render (gc -> renderer.render (new GraphicsContextImpl (enableAntialias ? AntialiasMode.BEST : AntialiasMode.OFF, gc)));
+        this.bitmap.render (gc -> renderer.render (new GraphicsContextImpl (enableAntialias ? AntialiasMode.BEST : AntialiasMode.OFF, gc, this.textMetrics)));
     }
 
 
@@ -23,7 +23,8 @@ import de.mossgrabers.framework.utils.StringUtils;
  */
 public class GraphicsContextImpl implements IGraphicsContext
 {
-    private final GraphicsOutput gc;
+    private final GraphicsOutput   gc;
+    private final TextMetricsCache textMetrics;
 
 
     /**
@@ -31,11 +32,13 @@ public class GraphicsContextImpl implements IGraphicsContext
      *
      * @param antialiasMode The antialias mode to apply
      * @param gc The Bitwig graphics context
+     * @param textMetrics The cache for the measured text extents
      */
-    public GraphicsContextImpl (final AntialiasMode antialiasMode, final GraphicsOutput gc)
+    public GraphicsContextImpl (final AntialiasMode antialiasMode, final GraphicsOutput gc, final TextMetricsCache textMetrics)
     {
         gc.setAntialias (antialiasMode);
         this.gc = gc;
+        this.textMetrics = textMetrics;
     }
 
 
@@ -174,8 +177,8 @@ public class GraphicsContextImpl implements IGraphicsContext
 
         // We need to calculate the text height from a character which has no ascent, since showText
         // always draws the text on the baseline of the font!
-        final double h = this.gc.getTextExtents ("T").getHeight ();
-        final double w = this.gc.getTextExtents (txt).getWidth ();
+        final double h = this.textMetrics.getCapitalHeight (this.gc, fontSize);
+        final double w = this.textMetrics.getTextWidth (this.gc, fontSize, txt);
         final double posX = alignment == Align.CENTER ? x + (width - w) / 2.0 : x;
         final double posY = y + (height + h) / 2;
 
@@ -218,12 +221,12 @@ public class GraphicsContextImpl implements IGraphicsContext
 
         // We need to calculate the text height from a character which has no ascent, since showText
         // always draws the text on the baseline of the font!
-        final double h = this.gc.getTextExtents ("T").getHeight ();
+        final double h = this.textMetrics.getCapitalHeight (this.gc, fontSize);
         final double posY = y + (height + h) / 2;
 
         if (backgroundColor != null)
         {
-            final double w = this.gc.getTextExtents (txt).getWidth ();
+            final double w = this.textMetrics.getTextWidth (this.gc, fontSize, txt);
             final double inset = 12.0;
             this.fillRoundedRectangle (x - inset, posY - h - inset, w + 2 * inset, h + 2 * inset, inset, backgroundColor);
         }
@@ -239,7 +242,7 @@ public class GraphicsContextImpl implements IGraphicsContext
     @Override
     public void drawImage (final IImage icon, final double x, final double y)
     {
-        this.gc.drawImage (((ImageImpl) icon).image (), x, y);
+        this.gc.drawImage (getImage (icon), x, y);
     }
 
 
@@ -247,12 +250,10 @@ public class GraphicsContextImpl implements IGraphicsContext
     @Override
     public void maskImage (final IImage icon, final double x, final double y, final ColorEx maskColor)
     {
-        final ImageImpl imageImpl = (ImageImpl) icon;
         try
         {
             this.setColor (maskColor);
-            final Image image = imageImpl.image ();
-            this.gc.mask (image, x, y);
+            this.gc.mask (getImage (icon), x, y);
             this.gc.fill ();
         }
         catch (final RuntimeException ex)
@@ -266,18 +267,7 @@ public class GraphicsContextImpl implements IGraphicsContext
     @Override
     public double calculateFontSize (final String text, final double maxHeight, final double maxWidth, final double minimumFontSize)
     {
-        double size = minimumFontSize;
-        double fittingSize = -1;
-        while (size < maxHeight)
-        {
-            this.gc.setFontSize (size);
-            final double width = this.gc.getTextExtents (text).getWidth ();
-            if (width > maxWidth)
-                break;
-            fittingSize = size;
-            size += 1.0;
-        }
-        return fittingSize;
+        return this.textMetrics.calculateFontSize (this.gc, text, maxHeight, maxWidth, minimumFontSize);
     }
 
 
@@ -285,4 +275,18 @@ public class GraphicsContextImpl implements IGraphicsContext
     {
         this.gc.setColor (color.getRed (), color.getGreen (), color.getBlue ());
     }
+
+
+    /**
+     * Get the Bitwig image of an image or bitmap.
+     *
+     * @param image The image or bitmap
+     * @return The Bitwig image
+     */
+    private static Image getImage (final IImage image)
+    {
+        if (image instanceof final BitmapImpl bitmapImpl)
+            return bitmapImpl.bitmap ();
+        return ((ImageImpl) image).image ();
+    }
 }
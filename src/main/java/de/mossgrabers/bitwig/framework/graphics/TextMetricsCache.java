@@ -0,0 +1,176 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2026
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.bitwig.framework.graphics;
+
+import com.bitwig.extension.api.graphics.GraphicsOutput;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Caches the measured extents of texts. Measuring a text is expensive but the displays draw mostly
+ * the same labels in every frame. All texts are drawn with the default font, therefore the extents
+ * only depend on the font size and the text. The least recently used entries are removed if the
+ * cache is full.
+ *
+ * The cache is not thread-safe. It belongs to one bitmap which is always rendered from the same
+ * thread.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class TextMetricsCache
+{
+    private static final int               MAX_FONT_SIZES = 16;
+    private static final int               MAX_TEXTS      = 256;
+    private static final int               MAX_FIT_SIZES  = 64;
+
+    private final List<FontSizeMetrics>    fontSizes      = new ArrayList<> ();
+    private final Map<FitKey, Double>      fitSizes       = new LruMap<> (MAX_FIT_SIZES);
+
+
+    /**
+     * Get the height of a capital letter (which has no descent). Since texts are always drawn on the
+     * baseline this is the height to use for centering a text vertically.
+     *
+     * @param gc The graphics output to measure with
+     * @param fontSize The font size
+     * @return The height
+     */
+    public double getCapitalHeight (final GraphicsOutput gc, final double fontSize)
+    {
+        final FontSizeMetrics metrics = this.getMetrics (fontSize);
+        if (metrics.capitalHeight < 0)
+        {
+            gc.setFontSize (fontSize);
+            metrics.capitalHeight = gc.getTextExtents ("T").getHeight ();
+        }
+        return metrics.capitalHeight;
+    }
+
+
+    /**
+     * Get the width of a text.
+     *
+     * @param gc The graphics output to measure with
+     * @param fontSize The font size
+     * @param text The text
+     * @return The width
+     */
+    public double getTextWidth (final GraphicsOutput gc, final double fontSize, final String text)
+    {
+        final Map<String, Double> widths = this.getMetrics (fontSize).widths;
+        final Double width = widths.get (text);
+        if (width != null)
+            return width.doubleValue ();
+
+        gc.setFontSize (fontSize);
+        final double w = gc.getTextExtents (text).getWidth ();
+        widths.put (text, Double.valueOf (w));
+        return w;
+    }
+
+
+    /**
+     * Calculates the maximum font size which fits into the given bounds. The result is remembered
+     * for the text and bounds.
+     *
+     * @param gc The graphics output to measure with
+     * @param text The text to fit
+     * @param maxHeight The maximum height of the text
+     * @param maxWidth The maximum width of the text
+     * @param minimumFontSize The minimum font size to use
+     * @return The font size or -1 if the text does not fit
+     */
+    public double calculateFontSize (final GraphicsOutput gc, final String text, final double maxHeight, final double maxWidth, final double minimumFontSize)
+    {
+        final FitKey key = new FitKey (text, maxHeight, maxWidth, minimumFontSize);
+        final Double fitSize = this.fitSizes.get (key);
+        if (fitSize != null)
+            return fitSize.doubleValue ();
+
+        // Measure directly, the tested sizes are not used for drawing and would only push out the
+        // cached sizes
+        double size = minimumFontSize;
+        double fittingSize = -1;
+        while (size < maxHeight)
+        {
+            gc.setFontSize (size);
+            final double width = gc.getTextExtents (text).getWidth ();
+            if (width > maxWidth)
+                break;
+            fittingSize = size;
+            size += 1.0;
+        }
+        this.fitSizes.put (key, Double.valueOf (fittingSize));
+        return fittingSize;
+    }
+
+
+    private FontSizeMetrics getMetrics (final double fontSize)
+    {
+        for (int i = 0; i < this.fontSizes.size (); i++)
+        {
+            final FontSizeMetrics metrics = this.fontSizes.get (i);
+            if (metrics.fontSize == fontSize)
+                return metrics;
+        }
+
+        // Remove the font size which was added first
+        if (this.fontSizes.size () >= MAX_FONT_SIZES)
+            this.fontSizes.remove (0);
+        final FontSizeMetrics metrics = new FontSizeMetrics (fontSize);
+        this.fontSizes.add (metrics);
+        return metrics;
+    }
+
+
+    /** The metrics of one font size. */
+    private static class FontSizeMetrics
+    {
+        private final double              fontSize;
+        private double                    capitalHeight = -1;
+        private final Map<String, Double> widths        = new LruMap<> (MAX_TEXTS);
+
+
+        FontSizeMetrics (final double fontSize)
+        {
+            this.fontSize = fontSize;
+        }
+    }
+
+
+    /** The parameters of a font size calculation. */
+    private record FitKey (String text, double maxHeight, double maxWidth, double minimumFontSize)
+    {
+        // Intentionally empty
+    }
+
+
+    /** A map which removes the least recently used entry if it is full. */
+    private static class LruMap<K, V> extends LinkedHashMap<K, V>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final int         maxEntries;
+
+
+        LruMap (final int maxEntries)
+        {
+            super (16, 0.75f, true);
+            this.maxEntries = maxEntries;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        protected boolean removeEldestEntry (final Map.Entry<K, V> eldest)
+        {
+            return this.size () > this.maxEntries;
+        }
+    }
+}
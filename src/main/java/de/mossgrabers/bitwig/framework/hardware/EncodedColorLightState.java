@@ -38,6 +38,17 @@ public class EncodedColorLightState extends InternalHardwareLightState
     }
 
 
+    /**
+     * Get the encoded color.
+     *
+     * @return The color and blink information
+     */
+    public int getEncodedColorState ()
+    {
+        return this.encodedColorState;
+    }
+
+
     /** {@inheritDoc}} */
     @Override
     public HardwareLightVisualState getVisualState ()
@@ -10,9 +10,7 @@ import java.util.function.IntFunction;
 import java.util.function.IntSupplier;
 import java.util.function.Supplier;
 
-import com.bitwig.extension.api.Color;
 import com.bitwig.extension.controller.api.HardwareButton;
-import com.bitwig.extension.controller.api.HardwareLightVisualState;
 import com.bitwig.extension.controller.api.HardwareSurface;
 import com.bitwig.extension.controller.api.InternalHardwareLightState;
 import com.bitwig.extension.controller.api.MultiStateHardwareLight;
@@ -81,12 +79,8 @@ public class HwSurfaceFactoryImpl implements IHwSurfaceFactory
     @Override
     public IHwLight createLight (final int surfaceID, final OutputID outputID, final Supplier<ColorEx> supplier, final Consumer<ColorEx> sendValueConsumer)
     {
-        final Supplier<InternalHardwareLightState> valueSupplier = () -> new RawColorLightState (supplier.get ());
-        final Consumer<InternalHardwareLightState> hardwareUpdater = state -> {
-            final HardwareLightVisualState visualState = state == null ? null : state.getVisualState ();
-            final Color c = visualState == null ? Color.blackColor () : visualState.getColor ();
-            sendValueConsumer.accept (new ColorEx (c.getRed (), c.getGreen (), c.getBlue ()));
-        };
+        final Supplier<InternalHardwareLightState> valueSupplier = new RawColorLightStateSupplier (supplier);
+        final Consumer<InternalHardwareLightState> hardwareUpdater = state -> sendValueConsumer.accept (state instanceof final RawColorLightState rawState ? rawState.getColorState () : ColorEx.BLACK);
         return this.createMultiStateHardwareLight (surfaceID, outputID, valueSupplier, hardwareUpdater);
     }
 
@@ -95,12 +89,8 @@ public class HwSurfaceFactoryImpl implements IHwSurfaceFactory
     @Override
     public IHwLight createLight (final int surfaceID, final OutputID outputID, final IntSupplier supplier, final IntConsumer sendValueConsumer, final IntFunction<ColorEx> stateToColorFunction, final IHwButton button)
     {
-        final Supplier<InternalHardwareLightState> valueSupplier = () -> new EncodedColorLightState (supplier.getAsInt (), stateToColorFunction);
-        final Consumer<InternalHardwareLightState> hardwareUpdater = state -> {
-            final HardwareLightVisualState visualState = state == null ? null : state.getVisualState ();
-            final int encodedColorState = visualState == null ? 0 : supplier.getAsInt ();
-            sendValueConsumer.accept (encodedColorState);
-        };
+        final Supplier<InternalHardwareLightState> valueSupplier = new EncodedColorLightStateSupplier (supplier, stateToColorFunction);
+        final Consumer<InternalHardwareLightState> hardwareUpdater = state -> sendValueConsumer.accept (state == null ? 0 : supplier.getAsInt ());
         final HwLightImpl lightImpl = this.createMultiStateHardwareLight (surfaceID, outputID, valueSupplier, hardwareUpdater);
         if (button != null)
             button.addLight (lightImpl);
@@ -210,4 +200,79 @@ public class HwSurfaceFactoryImpl implements IHwSurfaceFactory
     {
         return surfaceID + 1 + "_" + name;
     }
+
+
+    /**
+     * Supplies the state of a light with a raw color. Since the state is polled on each update of
+     * the hardware, the last state is returned as long as the color does not change.
+     */
+    private static class RawColorLightStateSupplier implements Supplier<InternalHardwareLightState>
+    {
+        private final Supplier<ColorEx> supplier;
+        private RawColorLightState      state;
+        private int                     encodedColor;
+
+
+        /**
+         * Constructor.
+         *
+         * @param supplier The supplier for the color of the light
+         */
+        public RawColorLightStateSupplier (final Supplier<ColorEx> supplier)
+        {
+            this.supplier = supplier;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public InternalHardwareLightState get ()
+        {
+            final ColorEx color = this.supplier.get ();
+            final int encoded = color.encode ();
+            if (this.state == null || this.encodedColor != encoded)
+            {
+                this.state = new RawColorLightState (color);
+                this.encodedColor = encoded;
+            }
+            return this.state;
+        }
+    }
+
+
+    /**
+     * Supplies the state of a light with an encoded color. Since the state is polled on each update
+     * of the hardware, the last state is returned as long as the encoded color does not change.
+     */
+    private static class EncodedColorLightStateSupplier implements Supplier<InternalHardwareLightState>
+    {
+        private final IntSupplier          supplier;
+        private final IntFunction<ColorEx> stateToColorFunction;
+        private EncodedColorLightState     state;
+
+
+        /**
+         * Constructor.
+         *
+         * @param supplier The supplier for the encoded color of the light
+         * @param stateToColorFunction Convert the state of the light to a color, which can be
+         *            displayed in the simulated GUI
+         */
+        public EncodedColorLightStateSupplier (final IntSupplier supplier, final IntFunction<ColorEx> stateToColorFunction)
+        {
+            this.supplier = supplier;
+            this.stateToColorFunction = stateToColorFunction;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public InternalHardwareLightState get ()
+        {
+            final int encodedColorState = this.supplier.getAsInt ();
+            if (this.state == null || this.state.getEncodedColorState () != encodedColorState)
+                this.state = new EncodedColorLightState (encodedColorState, this.stateToColorFunction);
+            return this.state;
+        }
+    }
 }
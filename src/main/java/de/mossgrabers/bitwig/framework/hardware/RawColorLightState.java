@@ -32,6 +32,17 @@ public class RawColorLightState extends InternalHardwareLightState
     }
 
 
+    /**
+     * Get the color.
+     *
+     * @return The color that represents the lighting state of the LED
+     */
+    public ColorEx getColorState ()
+    {
+        return this.colorState;
+    }
+
+
     /** {@inheritDoc}} */
     @Override
     public HardwareLightVisualState getVisualState ()
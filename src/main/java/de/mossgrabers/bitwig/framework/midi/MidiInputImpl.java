@@ -29,6 +29,8 @@ import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.INoteInput;
 import de.mossgrabers.framework.daw.midi.MidiShortCallback;
 import de.mossgrabers.framework.daw.midi.MidiSysExCallback;
+import de.mossgrabers.framework.daw.midi.MidiSysExDataCallback;
+import de.mossgrabers.framework.utils.StringUtils;
 
 
 /**
@@ -87,6 +89,14 @@ public class MidiInputImpl implements IMidiInput
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void setSysexDataCallback (final MidiSysExDataCallback callback)
+    {
+        this.port.setSysexCallback (data -> callback.handleMidi (StringUtils.fromHexStr (data)));
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void sendRawMidiEvent (final int status, final int data1, final int data2)
@@ -4,32 +4,63 @@
 
 package de.mossgrabers.bitwig.framework.osc;
 
+import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.osc.IOpenSoundControlClient;
 import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
 
 import com.bitwig.extension.api.opensoundcontrol.OscConnection;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 
 /**
- * Implementation of an OSC server connection (the client).
+ * Implementation of an OSC server connection (the client). Bundles are not sent on the calling
+ * thread but queued and sent from a separate thread. If the queue is not yet sent when new
+ * messages arrive, older messages with the same address are dropped.
  *
  * @author Jürgen Moßgraber
  */
 public class OpenSoundControlClientImpl implements IOpenSoundControlClient
 {
-    private final OscConnection connection;
+    /**
+     * The maximum size of a bundle in bytes. A bundle is sent as one UDP datagram which must fit
+     * into the MTU of an Ethernet network (1500 bytes minus the IP and UDP headers), otherwise it is
+     * fragmented and the whole bundle is lost if one fragment is lost. Single messages which are
+     * larger are still sent (in their own bundle).
+     */
+    private static final int                            MAX_BUNDLE_SIZE    = 1400;
+    /** The size of the '#bundle' string and the time tag. */
+    private static final int                            BUNDLE_HEADER_SIZE = 16;
+    /** Pause between two bundles in milliseconds, otherwise some clients cannot keep up. */
+    private static final int                            PACING_DELAY       = 10;
+
+    private final IHost                                 host;
+    private final OscConnection                         connection;
+    private final Map<Object, IOpenSoundControlMessage> pendingMessages    = new LinkedHashMap<> ();
+    private final ScheduledExecutorService              sendExecutor       = Executors.newSingleThreadScheduledExecutor ();
+    private boolean                                     isSendScheduled    = false;
 
 
     /**
      * Constructor.
      *
+     * @param host The host
      * @param connection The OSC connection
      */
-    public OpenSoundControlClientImpl (final OscConnection connection)
+    public OpenSoundControlClientImpl (final IHost host, final OscConnection connection)
     {
+        this.host = host;
         this.connection = connection;
     }
 
@@ -38,9 +69,7 @@ public class OpenSoundControlClientImpl implements IOpenSoundControlClient
     @Override
     public void sendMessage (final IOpenSoundControlMessage message) throws IOException
     {
-        final String address = message.getAddress ();
-        final Object [] values = message.getValues ();
-        this.connection.sendMessage (address, values);
+        this.sendBundle (List.of (message));
     }
 
 
@@ -48,33 +77,126 @@ public class OpenSoundControlClientImpl implements IOpenSoundControlClient
     @Override
     public void sendBundle (final List<IOpenSoundControlMessage> messages) throws IOException
     {
-        int pos = 0;
-        this.connection.startBundle ();
-        for (final IOpenSoundControlMessage message: messages)
+        synchronized (this.pendingMessages)
         {
-            this.sendMessage (message);
-            pos++;
-            // We cannot get the exact size of the message due to the API, so let's try to stay
-            // below 64K, which is the maximum of an UDP message
-            if (pos > 100)
+            final Set<String> addresses = new HashSet<> ();
+            for (final IOpenSoundControlMessage message: messages)
             {
-                pos = 0;
-                this.connection.endBundle ();
+                final String address = message.getAddress ();
 
-                // Ugly hack, but we need to slow down a bit otherwise clients like Open Stage
-                // Control cannot keep up...
-                try
+                // Several messages with the same address in one bundle (e.g. the update
+                // notification) are all sent, only stale messages of a previous bundle are dropped
+                if (addresses.add (address))
                 {
-                    Thread.sleep (10);
-                }
-                catch (final InterruptedException ex)
-                {
-                    Thread.currentThread ().interrupt ();
+                    this.pendingMessages.remove (address);
+                    this.pendingMessages.put (address, message);
                 }
+                else
+                    this.pendingMessages.put (new Object (), message);
+            }
 
-                this.connection.startBundle ();
+            if (this.isSendScheduled || this.pendingMessages.isEmpty () || this.sendExecutor.isShutdown ())
+                return;
+            this.isSendScheduled = true;
+            this.sendExecutor.execute (this::sendPendingMessages);
+        }
+    }
+
+
+    /**
+     * Stop sending. Messages which are not yet sent are dropped.
+     */
+    public void shutdown ()
+    {
+        synchronized (this.pendingMessages)
+        {
+            this.pendingMessages.clear ();
+            this.sendExecutor.shutdown ();
+        }
+    }
+
+
+    /**
+     * Sends as many of the pending messages as fit into one bundle. Schedules the next bundle if
+     * there are more messages.
+     */
+    private void sendPendingMessages ()
+    {
+        final List<IOpenSoundControlMessage> bundle = new ArrayList<> ();
+        final boolean hasMore;
+        synchronized (this.pendingMessages)
+        {
+            int bundleSize = BUNDLE_HEADER_SIZE;
+            final Iterator<IOpenSoundControlMessage> iterator = this.pendingMessages.values ().iterator ();
+            while (iterator.hasNext ())
+            {
+                final IOpenSoundControlMessage message = iterator.next ();
+                // Each element of a bundle is preceded by its size
+                final int messageSize = 4 + getMessageSize (message);
+                if (!bundle.isEmpty () && bundleSize + messageSize > MAX_BUNDLE_SIZE)
+                    break;
+                bundle.add (message);
+                bundleSize += messageSize;
+                iterator.remove ();
             }
+
+            hasMore = !this.pendingMessages.isEmpty () && !this.sendExecutor.isShutdown ();
+            this.isSendScheduled = hasMore;
         }
-        this.connection.endBundle ();
+
+        try
+        {
+            this.connection.startBundle ();
+            for (final IOpenSoundControlMessage message: bundle)
+                this.connection.sendMessage (message.getAddress (), message.getValues ());
+            this.connection.endBundle ();
+        }
+        catch (final IOException ex)
+        {
+            this.host.error ("Could not send UDP message.", ex);
+        }
+
+        if (hasMore)
+            this.sendExecutor.schedule (this::sendPendingMessages, PACING_DELAY, TimeUnit.MILLISECONDS);
+    }
+
+
+    /**
+     * Calculates the size of an OSC message in bytes.
+     *
+     * @param message The message
+     * @return The size
+     */
+    private static int getMessageSize (final IOpenSoundControlMessage message)
+    {
+        final Object [] values = message.getValues ();
+
+        // Address and type tags (',' and one character per value)
+        int size = getPaddedSize (message.getAddress ().length () + 1) + getPaddedSize (values.length + 2);
+        for (final Object value: values)
+        {
+            if (value instanceof final String text)
+                size += getPaddedSize (text.getBytes (StandardCharsets.UTF_8).length + 1);
+            else if (value instanceof final byte [] blob)
+                size += 4 + getPaddedSize (blob.length);
+            else if (value instanceof Long || value instanceof Double)
+                size += 8;
+            else if (value instanceof Integer || value instanceof Float)
+                size += 4;
+            // Booleans and null are encoded only in the type tags
+        }
+        return size;
+    }
+
+
+    /**
+     * All OSC elements are aligned to 4 bytes.
+     *
+     * @param size The unpadded size
+     * @return The padded size
+     */
+    private static int getPaddedSize (final int size)
+    {
+        return (size + 3) & ~3;
     }
 }
@@ -25,8 +25,13 @@ import java.util.Optional;
  */
 public class HidDeviceImpl implements IHidDevice
 {
-    private HidDevice hidDevice;
-    private boolean   isOpen;
+    private final boolean    isMacOS        = OperatingSystem.isMacOS ();
+    private HidDevice        hidDevice;
+    private boolean          isOpen;
+
+    private final byte [] [] outputReports  = new byte [256] [];
+    private final byte [] [] featureReports = new byte [256] [];
+    private byte []          inputReport    = new byte [64];
 
 
     /**
@@ -74,21 +79,11 @@ public class HidDeviceImpl implements IHidDevice
     {
         if (!this.isOpen)
             return -1;
-        final byte [] data = toBuffer (memoryBlock);
 
         // purehid documentation says otherwise but MAC also needs the report ID in
         // data[0], therefore add it
-        byte [] d = data;
-        int l = data.length;
-        if (OperatingSystem.isMacOS ())
-        {
-            l++;
-            d = new byte [l];
-            d[0] = reportID;
-            System.arraycopy (data, 0, d, 1, data.length);
-        }
-
-        return this.hidDevice.setOutputReport (reportID, d, d.length);
+        final byte [] data = fillReport (this.outputReports, reportID, memoryBlock, this.isMacOS);
+        return this.hidDevice.setOutputReport (reportID, data, data.length);
     }
 
 
@@ -98,7 +93,7 @@ public class HidDeviceImpl implements IHidDevice
     {
         if (!this.isOpen)
             return -1;
-        final byte [] data = toBuffer (memoryBlock);
+        final byte [] data = fillReport (this.featureReports, reportID, memoryBlock, false);
         return this.hidDevice.setFeatureReport (reportID, data, data.length);
     }
 
@@ -113,16 +108,17 @@ public class HidDeviceImpl implements IHidDevice
 
             // purehid documentation says otherwise but MAC also contains the report ID in
             // data[0], therefore remove it
-            byte [] d = data;
-            int l = length;
-            if (OperatingSystem.isMacOS ())
+            if (!this.isMacOS || length <= 0)
             {
-                l--;
-                d = new byte [l];
-                System.arraycopy (data, 1, d, 0, l);
+                callback.process (id, data, length);
+                return;
             }
 
-            callback.process (id, d, l);
+            final int l = length - 1;
+            if (this.inputReport.length < l)
+                this.inputReport = new byte [l];
+            System.arraycopy (data, 1, this.inputReport, 0, l);
+            callback.process (id, this.inputReport, l);
         });
     }
 
@@ -138,13 +134,33 @@ public class HidDeviceImpl implements IHidDevice
     }
 
 
-    private static byte [] toBuffer (final IMemoryBlock memoryBlock)
+    /**
+     * Copy the content of the memory block into the (re-used) report array of the report ID. The
+     * array is only created if there is none yet for the report ID or if the size has changed.
+     *
+     * @param reports The report arrays indexed by the report ID
+     * @param reportID The report ID
+     * @param memoryBlock The memory block with the data to send
+     * @param prependReportID If true the report ID is added as the first byte
+     * @return The report array
+     */
+    private static byte [] fillReport (final byte [] [] reports, final byte reportID, final IMemoryBlock memoryBlock, final boolean prependReportID)
     {
         final ByteBuffer buffer = memoryBlock.createByteBuffer ();
         final int size = buffer.capacity ();
-        final byte [] data = new byte [size];
-        buffer.rewind ();
-        buffer.get (data);
+        final int offset = prependReportID ? 1 : 0;
+
+        final int index = Byte.toUnsignedInt (reportID);
+        byte [] data = reports[index];
+        if (data == null || data.length != size + offset)
+        {
+            data = new byte [size + offset];
+            reports[index] = data;
+        }
+
+        if (prependReportID)
+            data[0] = reportID;
+        buffer.get (0, data, offset, size);
         return data;
     }
 }
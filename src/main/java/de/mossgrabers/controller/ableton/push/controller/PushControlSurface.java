@@ -527,7 +527,7 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
         if (this.padGrid instanceof final PushPadGrid pushPadGrid)
             pushPadGrid.setSurface (this);
 
-        this.input.setSysexCallback (this::handleSysEx);
+        this.input.setSysexDataCallback (this::handleSysEx);
     }
 
 
@@ -1226,11 +1226,10 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
     /**
      * Handle incoming system exclusive data.
      *
-     * @param data The data
+     * @param byteData The system exclusive data
      */
-    private void handleSysEx (final String data)
+    private void handleSysEx (final int [] byteData)
     {
-        final int [] byteData = StringUtils.fromHexStr (data);
         final DeviceInquiry deviceInquiry = new DeviceInquiry (byteData);
         if (deviceInquiry.isValid ())
         {
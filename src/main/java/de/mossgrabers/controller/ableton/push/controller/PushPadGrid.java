@@ -18,8 +18,27 @@ import de.mossgrabers.framework.featuregroup.IExpressionView;
  */
 public class PushPadGrid extends PadGridImpl
 {
-    private PushControlSurface surface;
-    private PushConfiguration  configuration;
+    private static final int [] [] TRANSLATIONS     = new int [NUM_NOTES] [];
+    private static final int [] [] MPE_TRANSLATIONS = new int [NUM_NOTES] [];
+    static
+    {
+        for (int i = 0; i < NUM_NOTES; i++)
+        {
+            TRANSLATIONS[i] = new int []
+            {
+                0,
+                i
+            };
+            MPE_TRANSLATIONS[i] = new int []
+            {
+                -1,
+                i
+            };
+        }
+    }
+
+    private PushControlSurface      surface;
+    private PushConfiguration       configuration;
 
 
     /**
@@ -38,11 +57,8 @@ public class PushPadGrid extends PadGridImpl
     @Override
     public int [] translateToController (final int note)
     {
-        return new int []
-        {
-            this.surface != null && this.surface.getViewManager ().getActive () instanceof IExpressionView && this.configuration.isMPEEnabled () ? -1 : 0,
-            note
-        };
+        final boolean isMPE = this.surface != null && this.surface.getViewManager ().getActive () instanceof IExpressionView && this.configuration.isMPEEnabled ();
+        return isMPE ? MPE_TRANSLATIONS[note] : TRANSLATIONS[note];
     }
 
 
@@ -5,9 +5,12 @@
 package de.mossgrabers.controller.ableton.push.controller;
 
 import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IMemoryBlock;
@@ -29,6 +32,12 @@ public class PushUsbDisplay
 
     private static final int               TIMEOUT          = 1000;
 
+    /**
+     * The display turns black if it does not receive a frame for 2 seconds, therefore an unchanged
+     * frame is re-sent after this time (in milliseconds).
+     */
+    private static final int               KEEP_ALIVE       = 1000;
+
     private static final byte []           DISPLAY_HEADER   =
     {
         (byte) 0xFF,
@@ -55,6 +64,17 @@ public class PushUsbDisplay
     private final IMemoryBlock             headerBlock;
     private final IMemoryBlock             imageBlock;
     private final byte []                  byteStore        = new byte [DATA_SZ];
+    private byte []                        previousImage;
+    private byte []                        lineBuffer;
+    private boolean                        forceUpdate      = true;
+    private int                            dirtyFromLine    = Integer.MAX_VALUE;
+    private int                            dirtyToLine      = -1;
+    private int                            lineSize;
+    private volatile long                  lastSendTime;
+
+    private final AtomicBoolean            isSendPending    = new AtomicBoolean (false);
+    private final AtomicLong               framesSent       = new AtomicLong ();
+    private final AtomicLong               framesSkipped    = new AtomicLong ();
 
     private final Object                   sendLock         = new Object ();
     private final Object                   bufferUpdateLock = new Object ();
@@ -89,55 +109,140 @@ public class PushUsbDisplay
 
 
     /**
-     * Send the buffered image to the screen.
+     * Send the buffered image to the screen. Only the lines which changed since the last call are
+     * encoded. Unchanged frames are not sent at all (besides a keep-alive).
      *
      * @param image An image of size 960 x 160 pixel
      */
     public void send (final IBitmap image)
     {
+        final boolean hasChanged;
+
         // Copy to the buffer
         synchronized (this.bufferUpdateLock)
         {
             image.encode ( (imageBuffer, width, height) -> {
 
-                int counter = 0;
-                final int padding = (DATA_SZ - height * width * 2) / height;
+                this.encodeChangedLines (imageBuffer, width, height);
+                imageBuffer.rewind ();
 
-                for (int y = 0; y < height; y++)
-                {
-                    for (int x = 0; x < width; x++)
-                    {
-                        final int blue = imageBuffer.get ();
-                        final int green = imageBuffer.get ();
-                        final int red = imageBuffer.get ();
-                        imageBuffer.get (); // Drop unused Alpha
+            });
+            hasChanged = this.dirtyToLine >= this.dirtyFromLine;
+        }
 
-                        final int pixel = sPixelFromRGB (red, green, blue);
+        if (!hasChanged && System.currentTimeMillis () - this.lastSendTime < KEEP_ALIVE)
+        {
+            this.framesSkipped.incrementAndGet ();
+            return;
+        }
 
-                        this.byteStore[counter] = (byte) (pixel & 0x00FF);
-                        this.byteStore[counter + 1] = (byte) ((pixel & 0xFF00) >> 8);
+        // A transfer which is already queued will pick up the changed lines as well
+        if (!this.isSendPending.compareAndSet (false, true))
+        {
+            this.framesSkipped.incrementAndGet ();
+            return;
+        }
 
-                        counter += 2;
-                    }
+        synchronized (this.sendLock)
+        {
+            if (this.sendExecutor.isShutdown ())
+                this.isSendPending.set (false);
+            else
+                this.sendExecutor.submit (this::sendData);
+        }
+    }
 
-                    for (int x = 0; x < padding; x++)
-                    {
-                        this.byteStore[counter] = (byte) 0x00;
-                        counter++;
-                    }
-                }
 
-                this.signalShaping ();
+    /**
+     * Get the number of frames which were transferred to the device.
+     *
+     * @return The number of sent frames
+     */
+    public long getFramesSent ()
+    {
+        return this.framesSent.get ();
+    }
 
-                imageBuffer.rewind ();
-            });
+
+    /**
+     * Get the number of frames which were not transferred since the content did not change or a
+     * transfer was already queued.
+     *
+     * @return The number of skipped frames
+     */
+    public long getFramesSkipped ()
+    {
+        return this.framesSkipped.get ();
+    }
+
+
+    /**
+     * Compares each line of the image with the previous image and encodes only the changed ones.
+     * The range of changed lines is collected until the data is copied to the USB block.
+     *
+     * @param imageBuffer The image data (blue, green, red, alpha, ...)
+     * @param width The width of the image
+     * @param height The height of the image
+     */
+    private void encodeChangedLines (final ByteBuffer imageBuffer, final int width, final int height)
+    {
+        final int rawLineSize = width * 4;
+        if (this.previousImage == null || this.previousImage.length != rawLineSize * height)
+        {
+            this.previousImage = new byte [rawLineSize * height];
+            this.lineBuffer = new byte [rawLineSize];
+            this.lineSize = DATA_SZ / height;
+            this.forceUpdate = true;
         }
 
-        synchronized (this.sendLock)
+        for (int y = 0; y < height; y++)
         {
-            if (!this.sendExecutor.isShutdown ())
-                this.sendExecutor.submit (this::sendData);
+            imageBuffer.get (this.lineBuffer);
+
+            final int rawOffset = y * rawLineSize;
+            if (!this.forceUpdate && Arrays.equals (this.lineBuffer, 0, rawLineSize, this.previousImage, rawOffset, rawOffset + rawLineSize))
+                continue;
+
+            System.arraycopy (this.lineBuffer, 0, this.previousImage, rawOffset, rawLineSize);
+            this.encodeLine (y * this.lineSize, width);
+
+            this.dirtyFromLine = Math.min (this.dirtyFromLine, y);
+            this.dirtyToLine = Math.max (this.dirtyToLine, y);
+        }
+
+        this.forceUpdate = false;
+    }
+
+
+    /**
+     * Convert the line buffer to RGB565, add the padding and apply the signal shaping.
+     *
+     * @param offset The offset of the line in the byte store
+     * @param width The width of the line in pixels
+     */
+    private void encodeLine (final int offset, final int width)
+    {
+        int counter = offset;
+        for (int x = 0; x < width; x++)
+        {
+            final int pos = x * 4;
+            final int blue = this.lineBuffer[pos] & 0xFF;
+            final int green = this.lineBuffer[pos + 1] & 0xFF;
+            final int red = this.lineBuffer[pos + 2] & 0xFF;
+            // Drop unused Alpha
+
+            final int pixel = sPixelFromRGB (red, green, blue);
+
+            this.byteStore[counter] = (byte) (pixel & 0x00FF);
+            this.byteStore[counter + 1] = (byte) ((pixel & 0xFF00) >> 8);
+
+            counter += 2;
         }
+
+        final int end = offset + this.lineSize;
+        Arrays.fill (this.byteStore, counter, end, (byte) 0x00);
+
+        this.signalShaping (offset, end);
     }
 
 
@@ -146,13 +251,16 @@ public class PushUsbDisplay
      * 0xFFE7F3E7 (i.e. the pixel data bits at positions which are 1 in the pattern must be
      * inverted).
      *
+     * @param from The start position in the byte store, must be a multiple of 4
+     * @param to The end position in the byte store (exclusive)
+     *
      * @see <a href=
      *      "https://github.com/Ableton/push-interface/blob/master/doc/AbletonPush2MIDIDisplayInterface.asc#324-xoring-pixel-data">XORing
      *      Pixel Data</a>
      */
-    private void signalShaping ()
+    private void signalShaping (final int from, final int to)
     {
-        for (int pos = 0; pos < this.byteStore.length; pos += 4)
+        for (int pos = from; pos < to; pos += 4)
         {
             this.byteStore[pos] ^= 0xE7;
             this.byteStore[pos + 1] ^= 0xF3;
@@ -164,13 +272,24 @@ public class PushUsbDisplay
 
     private void sendData ()
     {
-        // Copy the data from the buffer to the USB block
+        // Copy the changed lines from the buffer to the USB block, the rest of the block still
+        // contains the previous frame
         synchronized (this.bufferUpdateLock)
         {
-            final ByteBuffer buffer = this.imageBlock.createByteBuffer ();
-            buffer.clear ();
-            for (int i = 0; i < DATA_SZ; i++)
-                buffer.put (this.byteStore[i]);
+            this.isSendPending.set (false);
+
+            if (this.dirtyToLine >= this.dirtyFromLine)
+            {
+                final int start = this.dirtyFromLine * this.lineSize;
+                final int length = (this.dirtyToLine + 1) * this.lineSize - start;
+                final ByteBuffer buffer = this.imageBlock.createByteBuffer ();
+                buffer.clear ();
+                buffer.position (start);
+                buffer.put (this.byteStore, start, length);
+
+                this.dirtyFromLine = Integer.MAX_VALUE;
+                this.dirtyToLine = -1;
+            }
         }
 
         // Send the data
@@ -179,8 +298,12 @@ public class PushUsbDisplay
             if (this.usbDevice == null || this.usbEndpoint == null)
                 return;
 
+            // The device only supports full frames
             this.usbEndpoint.send (this.headerBlock, TIMEOUT);
             this.usbEndpoint.send (this.imageBlock, TIMEOUT);
+
+            this.lastSendTime = System.currentTimeMillis ();
+            this.framesSent.incrementAndGet ();
         }
     }
 
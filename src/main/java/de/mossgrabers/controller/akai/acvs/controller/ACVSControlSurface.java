@@ -202,7 +202,7 @@ public class ACVSControlSurface extends AbstractControlSurface<ACVSConfiguration
 
         this.addTextDisplay (new ACVSDisplay (this.host, this.getOutput ()));
 
-        this.input.setSysexCallback (this::handleSysEx);
+        this.input.setSysexDataCallback (this::handleSysEx);
     }
 
 
@@ -239,17 +239,16 @@ public class ACVSControlSurface extends AbstractControlSurface<ACVSConfiguration
     /**
      * Handle incoming system exclusive data.
      *
-     * @param dataStr The data formatted as a string
+     * @param data The system exclusive data
      */
-    private void handleSysEx (final String dataStr)
+    private void handleSysEx (final int [] data)
     {
-        final int [] data = StringUtils.fromHexStr (dataStr);
         final ACVSMidiOutput acvsMidiOutput = this.getOutput ();
 
         final Optional<ACVSMessage> messageOpt = acvsMidiOutput.getMessageContent (data);
         if (messageOpt.isEmpty ())
         {
-            this.host.error ("Unknown System Exclusive message: " + dataStr);
+            this.host.error ("Unknown System Exclusive message: " + StringUtils.toHexStr (data));
             return;
         }
 
@@ -4,8 +4,8 @@
 
 package de.mossgrabers.controller.akai.acvs.controller;
 
-import java.util.EnumMap;
-import java.util.Map;
+import java.util.Arrays;
+import java.util.BitSet;
 
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.controller.display.AbstractTextDisplay;
@@ -16,6 +16,8 @@ import de.mossgrabers.framework.utils.StringUtils;
 
 /**
  * The ACVS display, which is not really a display but a bunch of strings placed in the display.
+ * Since there are several thousand item IDs (rows) but only a few of them are used, only the
+ * changed rows are processed.
  *
  * @author Jürgen Moßgraber
  */
@@ -67,7 +69,14 @@ public class ACVSDisplay extends AbstractTextDisplay
 
     private final ColorEx []               currentColor;
     private final ColorEx []               color;
-    private final Map<ScreenItem, Integer> screenItemCache                      = new EnumMap<> (ScreenItem.class);
+    private final int []                   screenItemCache                      = new int [ScreenItem.values ().length];
+
+    // Rows with a new text which still needs to be 'done'
+    private final BitSet                   pendingRows                          = new BitSet (ITEM_ID_MAX);
+    // Rows with a new text or color which need to be flushed
+    private final BitSet                   dirtyRows                            = new BitSet (ITEM_ID_MAX);
+    // All rows which were ever set, required to force a flush
+    private final BitSet                   usedRows                             = new BitSet (ITEM_ID_MAX);
 
 
     /**
@@ -80,8 +89,7 @@ public class ACVSDisplay extends AbstractTextDisplay
     {
         super (host, output, ITEM_ID_MAX, 1, 16);
 
-        for (final ScreenItem item: ScreenItem.values ())
-            this.screenItemCache.put (item, Integer.valueOf (-1));
+        Arrays.fill (this.screenItemCache, -1);
 
         this.currentColor = new ColorEx [this.noOfLines];
         this.color = new ColorEx [this.noOfLines];
@@ -114,24 +122,56 @@ public class ACVSDisplay extends AbstractTextDisplay
     public void setColor (final int row, final ColorEx color)
     {
         this.color[row] = color;
+        this.dirtyRows.set (row);
+        this.usedRows.set (row);
     }
 
 
     /** {@inheritDoc} */
     @Override
-    public void flush ()
+    public ITextDisplay setRow (final int row, final String str)
+    {
+        super.setRow (row, str);
+        this.pendingRows.set (row);
+        return this;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public ITextDisplay allDone ()
     {
-        super.flush ();
+        for (int row = this.pendingRows.nextSetBit (0); row >= 0; row = this.pendingRows.nextSetBit (row + 1))
+            this.done (row);
+        this.pendingRows.clear ();
+        return this;
+    }
+
 
-        for (int row = 0; row < this.noOfLines; row++)
+    /** {@inheritDoc} */
+    @Override
+    public void flush ()
+    {
+        for (int row = this.dirtyRows.nextSetBit (0); row >= 0; row = this.dirtyRows.nextSetBit (row + 1))
         {
-            // Has anything changed?
-            if (this.currentColor[row] != null && this.currentColor[row].equals (this.color[row]))
-                continue;
-            this.currentColor[row] = this.color[row];
-            if (this.currentColor[row] != null)
-                this.updateColor (row, this.currentColor[row]);
+            // Has the text changed?
+            if (this.currentMessage[row] == null || !this.currentMessage[row].equals (this.message[row]))
+            {
+                final String previousMessage = this.currentMessage[row];
+                this.currentMessage[row] = this.message[row];
+                if (this.currentMessage[row] != null)
+                    this.updateLine (row, this.currentMessage[row], previousMessage);
+            }
+
+            // Has the color changed?
+            if (this.currentColor[row] == null || !this.currentColor[row].equals (this.color[row]))
+            {
+                this.currentColor[row] = this.color[row];
+                if (this.currentColor[row] != null)
+                    this.updateColor (row, this.currentColor[row]);
+            }
         }
+        this.dirtyRows.clear ();
     }
 
 
@@ -139,12 +179,13 @@ public class ACVSDisplay extends AbstractTextDisplay
     @Override
     public void forceFlush ()
     {
-        for (int row = 0; row < this.noOfLines; row++)
+        for (int row = this.usedRows.nextSetBit (0); row >= 0; row = this.usedRows.nextSetBit (row + 1))
+        {
             this.currentMessage[row] = null;
-        for (int row = 0; row < this.noOfLines; row++)
             this.currentColor[row] = null;
-        for (final ScreenItem item: ScreenItem.values ())
-            this.screenItemCache.put (item, Integer.valueOf (-1));
+        }
+        this.dirtyRows.or (this.usedRows);
+        Arrays.fill (this.screenItemCache, -1);
     }
 
 
@@ -159,7 +200,11 @@ public class ACVSDisplay extends AbstractTextDisplay
     @Override
     public ITextDisplay done (final int row)
     {
-        return this.fullRows[row] == null ? this : super.done (row);
+        if (this.fullRows[row] == null)
+            return this;
+        this.dirtyRows.set (row);
+        this.usedRows.set (row);
+        return super.done (row);
     }
 
 
@@ -179,11 +224,11 @@ public class ACVSDisplay extends AbstractTextDisplay
      */
     public void setScreenItem (final ScreenItem screenItem, final int value)
     {
-        final Integer currentValue = this.screenItemCache.get (screenItem);
-        if (currentValue.intValue () == value)
+        final int index = screenItem.ordinal ();
+        if (this.screenItemCache[index] == value)
             return;
 
-        this.screenItemCache.put (screenItem, Integer.valueOf (value));
+        this.screenItemCache[index] = value;
 
         if (screenItem.isNote ())
             this.output.sendNoteEx (screenItem.getChannel (), screenItem.getNoteCC (), value);
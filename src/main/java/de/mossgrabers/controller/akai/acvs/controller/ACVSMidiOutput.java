@@ -11,6 +11,7 @@ import java.util.Optional;
 import de.mossgrabers.controller.akai.acvs.ACVSDevice;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 
 
 /**
@@ -284,6 +285,14 @@ public class ACVSMidiOutput implements IMidiOutput
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void sendSysex (final SysexBuilder builder)
+    {
+        this.output.sendSysex (builder);
+    }
+
+
     /**
      * Set the ID of the currently active ACVS device on the messages.
      *
@@ -8,13 +8,12 @@ import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.grid.BlinkingPadGrid;
-import de.mossgrabers.framework.controller.grid.LightInfo;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
-import de.mossgrabers.framework.utils.StringUtils;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Map.Entry;
 
 
 /**
@@ -41,8 +40,13 @@ public class FirePadGrid extends BlinkingPadGrid
             INVERSE_TRANSLATE_16x4_MATRIX.put (Integer.valueOf (TRANSLATE_16x4_MATRIX[i]), Integer.valueOf (36 + i));
     }
 
-    private double padBrightness = 1.0;
-    private double padSaturation = 1.0;
+    private static final int                   HEADER_LENGTH                 = 5;
+
+    private final SysexBuilder                 sysexBuilder                  = new SysexBuilder (0xF0, 0x47, 0x7F, 0x43, 0x65);
+    /** The RGB values of the colors for the current brightness and saturation, -1 if not calculated. */
+    private final int []                       deviceColors                  = new int [NUM_NOTES];
+    private double                             padBrightness                 = 1.0;
+    private double                             padSaturation                 = 1.0;
 
 
     /**
@@ -54,6 +58,8 @@ public class FirePadGrid extends BlinkingPadGrid
     public FirePadGrid (final ColorManager colorManager, final IMidiOutput output)
     {
         super (colorManager, output, 4, 16, 36);
+
+        Arrays.fill (this.deviceColors, -1);
     }
 
 
@@ -82,64 +88,46 @@ public class FirePadGrid extends BlinkingPadGrid
     @Override
     protected void updateController ()
     {
-        final StringBuilder sb = new StringBuilder ();
-
-        for (final Entry<Integer, LightInfo> e: this.padInfos.entrySet ())
+        synchronized (this.sysexBuilder)
         {
-            final int note = e.getKey ().intValue ();
-            final LightInfo info = e.getValue ();
-
-            final int index = note - 54;
-            // Note: The exact PADx is not needed for getting the color
-            ColorEx color = this.colorManager.getColor (info.getColor (), ButtonID.PAD1);
-            // Do not scale black!
-            if (!color.equals (ColorEx.BLACK))
-                color = color.scale (this.padBrightness, this.padSaturation);
-            final int [] c = color.toIntRGB127 ();
-            sb.append (StringUtils.toHexStr (index)).append (' ');
-            sb.append (StringUtils.toHexStr (c[0])).append (' ');
-            sb.append (StringUtils.toHexStr (c[1])).append (' ');
-            sb.append (StringUtils.toHexStr (c[2])).append (' ');
-
-            // Hardware does not support blinking, therefore needs to be implemented the hard
-            // way
-            final Integer key = Integer.valueOf (index);
-            if (info.getBlinkColor () > 0)
-                this.blinkingLights.put (key, info);
-            else
-                this.blinkingLights.remove (key);
-        }
+            // Placeholder for the length of the data
+            this.sysexBuilder.reset ().add (0).add (0);
 
-        int length = this.padInfos.size ();
+            super.updateController ();
 
-        // Toggle blink colors every 600ms
-        if (this.checkBlinking ())
-        {
-            length += this.blinkingLights.size ();
+            // No update necessary
+            final int length = this.sysexBuilder.getPosition () - HEADER_LENGTH - 2;
+            if (length == 0)
+                return;
 
-            for (final Entry<Integer, LightInfo> value: this.blinkingLights.entrySet ())
-            {
-                final LightInfo info = value.getValue ();
-
-                final int colorIndex = this.isBlink ? info.getBlinkColor () : info.getColor ();
-                final int [] c = this.colorManager.getColor (colorIndex, ButtonID.PAD1).scale (this.padBrightness, this.padSaturation).toIntRGB127 ();
-                sb.append (StringUtils.toHexStr (value.getKey ().intValue ())).append (' ');
-                sb.append (StringUtils.toHexStr (c[0])).append (' ');
-                sb.append (StringUtils.toHexStr (c[1])).append (' ');
-                sb.append (StringUtils.toHexStr (c[2])).append (' ');
-            }
+            this.sysexBuilder.set (HEADER_LENGTH, length / 128).set (HEADER_LENGTH + 1, length % 128);
+            this.output.sendSysex (this.sysexBuilder);
         }
+    }
 
-        // No update necessary
-        if (sb.length () == 0)
-            return;
 
-        length *= 4;
-        final StringBuilder msg = new StringBuilder ("F0 47 7F 43 65 ");
-        msg.append (StringUtils.toHexStr (length / 128)).append (' ');
-        msg.append (StringUtils.toHexStr (length % 128)).append (' ');
+    /** {@inheritDoc} */
+    @Override
+    protected void sendPadUpdate (final int note, final int colorIndex)
+    {
+        synchronized (this.sysexBuilder)
+        {
+            int deviceColor = this.deviceColors[colorIndex];
+            if (deviceColor < 0)
+            {
+                // Note: The exact PADx is not needed for getting the color
+                ColorEx color = this.colorManager.getColor (colorIndex, ButtonID.PAD1);
+                // Do not scale black!
+                if (!color.equals (ColorEx.BLACK))
+                    color = color.scale (this.padBrightness, this.padSaturation);
+                final int [] c = color.toIntRGB127 ();
+                deviceColor = c[0] << 16 | c[1] << 8 | c[2];
+                this.deviceColors[colorIndex] = deviceColor;
+            }
 
-        this.output.sendSysex (msg.append (sb).append ("F7").toString ());
+            this.sysexBuilder.add (note - 54);
+            this.sysexBuilder.add (deviceColor >> 16).add (deviceColor >> 8 & 0x7F).add (deviceColor & 0x7F);
+        }
     }
 
 
@@ -151,7 +139,11 @@ public class FirePadGrid extends BlinkingPadGrid
      */
     void configureLEDs (final double padBrightness, final double padSaturation)
     {
-        this.padBrightness = padBrightness;
-        this.padSaturation = padSaturation;
+        synchronized (this.sysexBuilder)
+        {
+            this.padBrightness = padBrightness;
+            this.padSaturation = padSaturation;
+            Arrays.fill (this.deviceColors, -1);
+        }
     }
 }
\ No newline at end of file
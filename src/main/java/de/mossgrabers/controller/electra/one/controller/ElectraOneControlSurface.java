@@ -226,7 +226,8 @@ public class ElectraOneControlSurface extends AbstractControlSurface<ElectraOneC
         Collections.addAll (MODES, Modes.VOLUME, Modes.SEND, Modes.DEVICE_PARAMS, Modes.EQ_DEVICE_PARAMS, Modes.TRANSPORT, Modes.SESSION, Modes.PROJECT);
     }
 
-    private static final String                        SET_GROUP_TITLE              = "sgt(%s,\"%s\")";
+    // A batched LUA script is sent as soon as it reaches this size
+    private static final int                           MAX_LUA_BATCH_LENGTH         = 1000;
 
     private final List<int []>                         sysexChunks                  = new ArrayList<> ();
     private final IMidiInput                           ctrlInput;
@@ -244,6 +245,8 @@ public class ElectraOneControlSurface extends AbstractControlSurface<ElectraOneC
     private final Object                               touchCombinationCommandsLock = new Object ();
     private final List<int []>                         shiftPatterns                = new ArrayList<> ();
     private final Map<int [], TouchCombinationCommand> commandPatterns              = new HashMap<> ();
+    private final StringBuilder                        luaBatch                     = new StringBuilder ();
+    private boolean                                    isLuaBatchActive             = false;
 
 
     /**
@@ -264,7 +267,7 @@ public class ElectraOneControlSurface extends AbstractControlSurface<ElectraOneC
         this.ctrlInput = ctrlInput;
         this.ctrlOutput = ctrlOutput;
 
-        this.ctrlInput.setSysexCallback (this::handleSysEx);
+        this.ctrlInput.setSysexDataCallback (this::handleSysEx);
     }
 
 
@@ -338,7 +341,38 @@ public class ElectraOneControlSurface extends AbstractControlSurface<ElectraOneC
      */
     public void updateGroupLabel (final int groupID, final String label)
     {
-        this.sendLua (String.format (SET_GROUP_TITLE, Integer.toString (groupID), label));
+        if (!this.isLuaBatchActive)
+        {
+            this.sendLua (new StringBuilder ().append ("sgt(").append (groupID).append (",\"").append (label).append ("\")").toString ());
+            return;
+        }
+
+        if (!this.luaBatch.isEmpty ())
+            this.luaBatch.append ('\n');
+        this.luaBatch.append ("sgt(").append (groupID).append (",\"").append (label).append ("\")");
+        if (this.luaBatch.length () >= MAX_LUA_BATCH_LENGTH)
+            this.sendLuaBatch ();
+    }
+
+
+    /**
+     * Start collecting LUA updates (e.g. of group labels) instead of sending each one in a separate
+     * system exclusive message.
+     */
+    public void startLuaBatch ()
+    {
+        this.isLuaBatchActive = true;
+    }
+
+
+    /**
+     * Send all LUA updates collected since the call of startLuaBatch as one script and stop
+     * collecting.
+     */
+    public void endLuaBatch ()
+    {
+        this.sendLuaBatch ();
+        this.isLuaBatchActive = false;
     }
 
 
@@ -512,6 +546,18 @@ public class ElectraOneControlSurface extends AbstractControlSurface<ElectraOneC
     }
 
 
+    /**
+     * Send the collected LUA updates, if any.
+     */
+    private void sendLuaBatch ()
+    {
+        if (this.luaBatch.isEmpty ())
+            return;
+        this.sendLua (this.luaBatch.toString ());
+        this.luaBatch.setLength (0);
+    }
+
+
     /**
      * Send a JSON or LUA string to the CTRL output. Removes and/or replaces non-ASCII characters.
      *
@@ -552,12 +598,10 @@ public class ElectraOneControlSurface extends AbstractControlSurface<ElectraOneC
      * method concatenates and stores the parts until the full message is received and then hands it
      * to the processing.
      *
-     * @param dataStr The data
+     * @param data The system exclusive data
      */
-    private void handleSysEx (final String dataStr)
+    private void handleSysEx (final int [] data)
     {
-        final int [] data = StringUtils.fromHexStr (dataStr);
-
         int [] fullData = null;
 
         synchronized (this.sysexChunks)
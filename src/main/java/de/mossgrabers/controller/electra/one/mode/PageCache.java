@@ -40,6 +40,7 @@ class PageCache
     private final ElectraOneControlSurface surface;
     private final int                      page;
     private boolean                        isDirty                    = false;
+    private boolean                        isRepaintDisabled          = false;
 
 
     /**
@@ -162,7 +163,7 @@ class PageCache
             if (!this.isDirty)
                 return;
 
-            this.surface.setRepaintEnabled (false);
+            this.surface.startLuaBatch ();
 
             // Flush values and their labels
             for (int row = 0; row < NUM_ROWS; row++)
@@ -181,6 +182,7 @@ class PageCache
                     {
                         this.currentCtrlValueLabelCache[row][column] = this.ctrlValueLabelCache[row][column];
                         final int controlID = this.getControlID (row, column);
+                        this.disableRepaint ();
                         this.surface.updateValueLabel (controlID, this.currentCtrlValueLabelCache[row][column]);
                     }
                 }
@@ -215,6 +217,7 @@ class PageCache
                     if (label != null || color != null || exists != null)
                     {
                         final int controlID = this.getControlID (row, column);
+                        this.disableRepaint ();
                         this.surface.updateLabel (controlID, label, color, exists);
 
                         label = null;
@@ -230,17 +233,38 @@ class PageCache
                 if (this.groupCache[group] != null && !this.groupCache[group].equals (this.currentGroupCache[group]))
                 {
                     this.currentGroupCache[group] = this.groupCache[group];
+                    this.disableRepaint ();
                     this.surface.updateGroupLabel (GROUP_OFFSET + group, this.currentGroupCache[group]);
                 }
             }
 
+            // All group labels are sent as one LUA script
+            this.surface.endLuaBatch ();
+
             this.isDirty = false;
 
-            this.surface.setRepaintEnabled (true);
+            if (this.isRepaintDisabled)
+            {
+                this.isRepaintDisabled = false;
+                this.surface.setRepaintEnabled (true);
+            }
         }
     }
 
 
+    /**
+     * Disables the repaint of the device, if not already done in the current flush. Values are sent
+     * as MIDI CC, therefore this is only necessary before the first system exclusive update.
+     */
+    private void disableRepaint ()
+    {
+        if (this.isRepaintDisabled)
+            return;
+        this.isRepaintDisabled = true;
+        this.surface.setRepaintEnabled (false);
+    }
+
+
     /**
      * Get the ID of the control located at the given row/column.
      *
@@ -83,7 +83,7 @@ public class EC4ControlSurface extends AbstractControlSurface<EC4Configuration>
     {
         super (host, configuration, colorManager, output, input, null, 430, 930);
 
-        this.input.setSysexCallback (this::handleSysEx);
+        this.input.setSysexDataCallback (this::handleSysEx);
     }
 
 
@@ -136,12 +136,12 @@ public class EC4ControlSurface extends AbstractControlSurface<EC4Configuration>
      * method concatenates and stores the parts until the full message is received and then hands it
      * to the processing.
      *
-     * @param dataStr The data
+     * @param sysexData The system exclusive data
      */
-    private void handleSysEx (final String dataStr)
+    private void handleSysEx (final int [] sysexData)
     {
         // Check if it is an EC-4 message
-        final byte [] data = StringUtils.asBytes (StringUtils.fromHexStr (dataStr));
+        final byte [] data = StringUtils.asBytes (sysexData);
         if (Arrays.compareUnsigned (SYSEX_HEADER, 0, SYSEX_HEADER.length, data, 0, SYSEX_HEADER.length) != 0 || data[data.length - 1] != (byte) 0xF7)
             return;
 
@@ -12,6 +12,7 @@ import java.io.Reader;
 import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.EnumMap;
 import java.util.HashSet;
 import java.util.List;
@@ -287,6 +288,8 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
     private String                                   filename;
     private final Object                             syncMapUpdate                     = new Object ();
     private int []                                   keyMap;
+    private List<List<CommandSlot>>                  slotIndex;
+    private int []                                   feedbackSlots;
     private int                                      selectedSlot                      = 0;
     private final AtomicBoolean                      doNotFire                         = new AtomicBoolean (false);
     private final AtomicBoolean                      commandIsUpdating                 = new AtomicBoolean (false);
@@ -492,7 +495,10 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
         });
         this.functionLayerSetting.addValueObserver (value -> this.getSelectedSlot ().setFunctionLayer (lookupIndex (FUNCTION_LAYERS, value) - 1));
 
-        this.sendValueSetting.addValueObserver (value -> this.getSelectedSlot ().setSendValue (AbstractConfiguration.lookupIndex (AbstractConfiguration.ON_OFF_OPTIONS, value) > 0));
+        this.sendValueSetting.addValueObserver (value -> {
+            this.getSelectedSlot ().setSendValue (AbstractConfiguration.lookupIndex (AbstractConfiguration.ON_OFF_OPTIONS, value) > 0);
+            this.clearSlotIndex ();
+        });
         this.sendValueWhenReceivedSetting.addValueObserver (value -> this.getSelectedSlot ().setSendValueWhenReceived (AbstractConfiguration.lookupIndex (AbstractConfiguration.ON_OFF_OPTIONS, value) > 0));
 
         ///////////////////////////////////////////////
@@ -584,6 +590,7 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
         final FlexiCommand oldCommand = slot.getCommand ();
         final FlexiCommand newCommand = FlexiCommand.lookupByName (value);
         slot.setCommand (newCommand);
+        this.clearSlotIndex ();
 
         this.fixKnobMode ();
         this.notifyCommandObserver ();
@@ -649,17 +656,110 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
      */
     public List<CommandSlot> getSlotCommands (final int type, final int number, final int midiChannel)
     {
-        final List<CommandSlot> results = new ArrayList<> ();
-        for (final CommandSlot slot: this.commandSlots)
+        final int num = type == CommandSlot.TYPE_PITCH_BEND ? 0 : number;
+        if (type < 0 || type > CommandSlot.TYPE_MMC || num < 0 || num > 127 || midiChannel < 0 || midiChannel > 15)
+            return Collections.emptyList ();
+        return this.getSlotIndex ().get (getSlotIndexKey (type, num, midiChannel));
+    }
+
+
+    /**
+     * Get the index of all active slots, (re-)build it if the slots have changed.
+     *
+     * @return The index with the matching slots (in slot order) for each type, number and MIDI
+     *         channel
+     */
+    private List<List<CommandSlot>> getSlotIndex ()
+    {
+        synchronized (this.syncMapUpdate)
         {
-            if (slot.getCommand () != FlexiCommand.OFF && slot.getType () == type && (type == CommandSlot.TYPE_PITCH_BEND || slot.getNumber () == number))
+            if (this.slotIndex != null)
+                return this.slotIndex;
+
+            final int size = (CommandSlot.TYPE_MMC + 1) * 128 * 16;
+            final List<List<CommandSlot>> index = new ArrayList<> (size);
+            for (int i = 0; i < size; i++)
+                index.add (null);
+
+            for (final CommandSlot slot: this.commandSlots)
             {
+                final int type = slot.getType ();
+                final int number = type == CommandSlot.TYPE_PITCH_BEND ? 0 : slot.getNumber ();
+                if (slot.getCommand () == FlexiCommand.OFF || type < 0 || type > CommandSlot.TYPE_MMC || number < 0 || number > 127)
+                    continue;
+
+                // MIDI channel 16 is omni, add it to all channels
                 final int channel = slot.getMidiChannel ();
-                if (channel == midiChannel || channel == 16)
-                    results.add (slot);
+                for (int i = 0; i < 16; i++)
+                {
+                    if (channel != i && channel != 16)
+                        continue;
+                    final int key = getSlotIndexKey (type, number, i);
+                    List<CommandSlot> slots = index.get (key);
+                    if (slots == null)
+                    {
+                        slots = new ArrayList<> ();
+                        index.set (key, slots);
+                    }
+                    slots.add (slot);
+                }
+            }
+
+            for (int i = 0; i < size; i++)
+            {
+                final List<CommandSlot> slots = index.get (i);
+                index.set (i, slots == null ? Collections.emptyList () : Collections.unmodifiableList (slots));
             }
+
+            this.slotIndex = index;
+            return index;
+        }
+    }
+
+
+    private static int getSlotIndexKey (final int type, final int number, final int midiChannel)
+    {
+        return (type * 128 + number) * 16 + midiChannel;
+    }
+
+
+    /**
+     * Get the indices of all slots which have a command assigned and should send its value to the
+     * device.
+     *
+     * @return The slot indices
+     */
+    public int [] getFeedbackSlots ()
+    {
+        synchronized (this.syncMapUpdate)
+        {
+            if (this.feedbackSlots == null)
+            {
+                int count = 0;
+                final int [] indices = new int [this.commandSlots.length];
+                for (int i = 0; i < this.commandSlots.length; i++)
+                {
+                    final CommandSlot slot = this.commandSlots[i];
+                    if (slot.getCommand () != FlexiCommand.OFF && slot.isSendValue ())
+                        indices[count++] = i;
+                }
+                this.feedbackSlots = Arrays.copyOf (indices, count);
+            }
+            return this.feedbackSlots;
+        }
+    }
+
+
+    /**
+     * Clear the index of the slot commands and of the slots which send feedback.
+     */
+    private void clearSlotIndex ()
+    {
+        synchronized (this.syncMapUpdate)
+        {
+            this.slotIndex = null;
+            this.feedbackSlots = null;
         }
-        return results;
     }
 
 
@@ -691,7 +791,7 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
 
 
     /**
-     * Clear the note map.
+     * Clear the note map and the index of the slot commands.
      */
     public void clearNoteMap ()
     {
@@ -699,6 +799,7 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
         {
             this.keyMap = null;
         }
+        this.clearSlotIndex ();
         this.notifyObservers (SLOT_CHANGE);
     }
 
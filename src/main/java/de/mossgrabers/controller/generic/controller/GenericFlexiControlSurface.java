@@ -25,7 +25,6 @@ import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.daw.midi.MidiConstants;
 import de.mossgrabers.framework.mode.Modes;
-import de.mossgrabers.framework.utils.StringUtils;
 import de.mossgrabers.nativefiledialogs.FileFilter;
 import de.mossgrabers.nativefiledialogs.NativeFileDialogs;
 import de.mossgrabers.nativefiledialogs.NativeFileDialogsFactory;
@@ -47,6 +46,9 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
 
     private final int []                                  valueCache            = new int [GenericFlexiConfiguration.NUM_SLOTS];
     private final Map<FlexiCommand, IFlexiCommandHandler> handlers              = new EnumMap<> (FlexiCommand.class);
+    private final int []                                  commandValues         = new int [FlexiCommand.values ().length];
+    private final int []                                  commandValueFlushes   = new int [FlexiCommand.values ().length];
+    private int                                           flushCounter          = 0;
     private NativeFileDialogs                             dialogs;
 
     private long                                          lastReceived          = 0;
@@ -86,7 +88,7 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
         this.configuration.addSettingObserver (GenericFlexiConfiguration.BUTTON_SAVE, this::saveFile);
         this.configuration.addSettingObserver (GenericFlexiConfiguration.BUTTON_LOAD, this::loadAndSelectFile);
 
-        this.input.setSysexCallback (this::handleSysEx);
+        this.input.setSysexDataCallback (this::handleSysEx);
     }
 
 
@@ -105,13 +107,11 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
     @Override
     public void flush ()
     {
+        // Only the slots with a command which send a value need to be checked
+        this.flushCounter++;
         final CommandSlot [] slots = this.configuration.getCommandSlots ();
-        for (int i = 0; i < slots.length; i++)
-        {
-            final FlexiCommand command = slots[i].getCommand ();
-            if (command != FlexiCommand.OFF && slots[i].isSendValue ())
-                this.flushValue (i, slots[i]);
-        }
+        for (final int index: this.configuration.getFeedbackSlots ())
+            this.flushValue (index, slots[index]);
     }
 
 
@@ -121,7 +121,7 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
         if (this.isUpdatingValue && !(command.isTrigger () && slot.isSendValueWhenReceived ()))
             return;
 
-        final int value = this.getCommandValue (command);
+        final int value = this.getFlushCommandValue (command);
 
         synchronized (this.valueCache)
         {
@@ -344,11 +344,10 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
     /**
      * Handle system exclusive for MMC commands.
      *
-     * @param dataStr The system exclusive data
+     * @param data The system exclusive data
      */
-    private void handleSysEx (final String dataStr)
+    private void handleSysEx (final int [] data)
     {
-        final int [] data = StringUtils.fromHexStr (dataStr);
         if (data.length != 6 || data[0] != 0xF0 || data[1] != 0x7F || data[3] != 0x06 || data[5] != 0xF7)
             return;
 
@@ -468,6 +467,25 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
     }
 
 
+    /**
+     * Get the value of a command. The value is only queried once per flush even if the command is
+     * assigned to several slots.
+     *
+     * @param command The command
+     * @return The value scaled to 7-bit or -1 if the command is not supported
+     */
+    private int getFlushCommandValue (final FlexiCommand command)
+    {
+        final int ordinal = command.ordinal ();
+        if (this.commandValueFlushes[ordinal] != this.flushCounter)
+        {
+            this.commandValueFlushes[ordinal] = this.flushCounter;
+            this.commandValues[ordinal] = this.getCommandValue (command);
+        }
+        return this.commandValues[ordinal];
+    }
+
+
     /**
      * Get the current value of a command.
      *
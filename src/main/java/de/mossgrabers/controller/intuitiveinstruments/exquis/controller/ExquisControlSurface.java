@@ -19,8 +19,8 @@ import de.mossgrabers.framework.controller.hardware.BindType;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 import de.mossgrabers.framework.scale.Scales;
-import de.mossgrabers.framework.utils.StringUtils;
 
 
 /**
@@ -119,9 +119,18 @@ public class ExquisControlSurface extends AbstractControlSurface<ExquisConfigura
     /** Get the non developer mode CC numbers configured by users. */
     public static final int                CMD_ENCODERS_SNAPSHOT     = 0x0A;
 
+    private static final int               NUM_LEDS                  = 128;
+    private static final int               LED_UNKNOWN               = -1;
+
     private final ISysexCallback           callback;
     private int                            requestTrackSettings      = -1;
 
+    /** The colors and effects (encoded) which are currently displayed by the LEDs. */
+    private final int []                   sentLEDs                  = new int [NUM_LEDS];
+    /** The colors and effects (encoded) which need to be sent with the next flush. */
+    private final int []                   pendingLEDs               = new int [NUM_LEDS];
+    private final SysexBuilder             ledSysexBuilder           = new SysexBuilder (0xF0, 0x00, 0x21, 0x7E, 0x7F, CMD_SET_LED_COLOR);
+
 
     /**
      * Constructor.
@@ -142,7 +151,10 @@ public class ExquisControlSurface extends AbstractControlSurface<ExquisConfigura
 
         this.callback = callback;
 
-        this.input.setSysexCallback (this::handleSysEx);
+        Arrays.fill (this.sentLEDs, LED_UNKNOWN);
+        Arrays.fill (this.pendingLEDs, LED_UNKNOWN);
+
+        this.input.setSysexDataCallback (this::handleSysEx);
     }
 
 
@@ -173,7 +185,8 @@ public class ExquisControlSurface extends AbstractControlSurface<ExquisConfigura
 
 
     /**
-     * Set the color of a LED.
+     * Set the color of a LED. The color is sent with the next flush and only if it differs from the
+     * color which is currently displayed.
      *
      * @param ledID The ID of the LED
      * @param color The color
@@ -181,17 +194,47 @@ public class ExquisControlSurface extends AbstractControlSurface<ExquisConfigura
      */
     public void setLED (final int ledID, final ColorEx color, final int fx)
     {
-        final int [] intRGB127 = color.toIntRGB127 ();
-        final byte [] params = new byte []
+        final int red = (int) Math.round (color.getRed () * 127.0);
+        final int green = (int) Math.round (color.getGreen () * 127.0);
+        final int blue = (int) Math.round (color.getBlue () * 127.0);
+        final int encoded = red << 21 | green << 14 | blue << 7 | fx & 0x7F;
+
+        synchronized (this.pendingLEDs)
         {
-            (byte) ledID,
-            (byte) intRGB127[0],
-            (byte) intRGB127[1],
-            (byte) intRGB127[2],
-            (byte) fx
-        };
+            this.pendingLEDs[ledID] = encoded == this.sentLEDs[ledID] ? LED_UNKNOWN : encoded;
+        }
+    }
+
+
+    /**
+     * Send the changed LEDs. LEDs with consecutive IDs are combined into one message, e.g. all pads
+     * are updated with one message when the view changes.
+     */
+    private void sendLEDs ()
+    {
+        synchronized (this.pendingLEDs)
+        {
+            int ledID = 0;
+            while (ledID < NUM_LEDS)
+            {
+                if (this.pendingLEDs[ledID] == LED_UNKNOWN)
+                {
+                    ledID++;
+                    continue;
+                }
 
-        this.sendSysex (CMD_SET_LED_COLOR, params);
+                this.ledSysexBuilder.reset ().add (ledID);
+                while (ledID < NUM_LEDS && this.pendingLEDs[ledID] != LED_UNKNOWN)
+                {
+                    final int encoded = this.pendingLEDs[ledID];
+                    this.ledSysexBuilder.add (encoded >> 21).add (encoded >> 14).add (encoded >> 7).add (encoded);
+                    this.sentLEDs[ledID] = encoded;
+                    this.pendingLEDs[ledID] = LED_UNKNOWN;
+                    ledID++;
+                }
+                this.output.sendSysex (this.ledSysexBuilder);
+            }
+        }
     }
 
 
@@ -294,11 +337,10 @@ public class ExquisControlSurface extends AbstractControlSurface<ExquisConfigura
      * method concatenates and stores the parts until the full message is received and then hands it
      * to the processing.
      *
-     * @param dataStr The data
+     * @param data The system exclusive data
      */
-    private void handleSysEx (final String dataStr)
+    private void handleSysEx (final int [] data)
     {
-        final int [] data = StringUtils.fromHexStr (dataStr);
         if (Arrays.compareUnsigned (SYSEX_HEADER, 0, SYSEX_HEADER.length, data, 0, SYSEX_HEADER.length) != 0)
             return;
 
@@ -372,7 +414,26 @@ public class ExquisControlSurface extends AbstractControlSurface<ExquisConfigura
     protected void flushHardware ()
     {
         // Don't flush when developer mode is already deactivated!
+        if (this.isShuttingDown)
+            return;
+        super.flushHardware ();
+        this.sendLEDs ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void forceFlush ()
+    {
+        // The LEDs might have been changed by the device, therefore send all of them again
+        synchronized (this.pendingLEDs)
+        {
+            Arrays.fill (this.sentLEDs, LED_UNKNOWN);
+        }
+
+        super.forceFlush ();
+
         if (!this.isShuttingDown)
-            super.flushHardware ();
+            this.sendLEDs ();
     }
 }
\ No newline at end of file
@@ -11,8 +11,8 @@ import java.util.concurrent.TimeUnit;
 import de.mossgrabers.framework.controller.display.AbstractTextDisplay;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 import de.mossgrabers.framework.utils.LatestTaskExecutor;
-import de.mossgrabers.framework.utils.StringUtils;
 
 
 /**
@@ -24,9 +24,8 @@ import de.mossgrabers.framework.utils.StringUtils;
  */
 public class HUIDisplay extends AbstractTextDisplay
 {
-    private static final String      SYSEX_DISPLAY_HEADER = "F0 00 00 66 05 00 10 ";
-
-    private final LatestTaskExecutor executor             = new LatestTaskExecutor ();
+    private final LatestTaskExecutor executor = new LatestTaskExecutor ();
+    private final SysexBuilder       builder  = new SysexBuilder (0xF0, 0x00, 0x00, 0x66, 0x05, 0x00, 0x10);
 
 
     /**
@@ -70,16 +69,8 @@ public class HUIDisplay extends AbstractTextDisplay
      */
     private void sendDisplayLine (final String text)
     {
-        final String t = text;
-
-        final int [] array = new int [5];
         for (int cell = 0; cell < this.noOfCells; cell++)
-        {
-            array[0] = cell;
-            for (int i = 0; i < 4; i++)
-                array[1 + i] = t.charAt (cell * 4 + i);
-            this.output.sendSysex (new StringBuilder (SYSEX_DISPLAY_HEADER).append (StringUtils.toHexStr (array)).append ("F7").toString ());
-        }
+            this.output.sendSysex (this.builder.reset ().add (cell).addText (text, cell * 4, cell * 4 + 4));
     }
 
 
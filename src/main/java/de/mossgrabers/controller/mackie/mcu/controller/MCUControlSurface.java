@@ -17,7 +17,7 @@ import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
-import de.mossgrabers.framework.utils.StringUtils;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 
 
 /**
@@ -170,7 +170,14 @@ public class MCUControlSurface extends AbstractControlSurface<MCUConfiguration>
 
     // Sysex
 
-    public static final String      SYSEX_HDR             = "F0 00 00 66 14 ";
+    public static final int []      SYSEX_HDR             =
+    {
+        0xF0,
+        0x00,
+        0x00,
+        0x66,
+        0x14
+    };
     public static final int         MCU_SYSEX_CMD_DISPLAY = 0x12;
 
     private static final boolean [] MCU_BUTTON_UPDATE;
@@ -199,6 +206,7 @@ public class MCUControlSurface extends AbstractControlSurface<MCUConfiguration>
     private final int                     extenderOffset;
     private final boolean                 isMainDevice;
     private int []                        itemIndices              = new int [0];
+    private final SysexBuilder            sysexBuilder             = new SysexBuilder (SYSEX_HDR);
 
 
     /**
@@ -322,10 +330,10 @@ public class MCUControlSurface extends AbstractControlSurface<MCUConfiguration>
             return;
 
         this.itemIndices = values;
-        final StringBuilder msg = new StringBuilder (SYSEX_HDR).append ("17 00 ");
+        final SysexBuilder msg = this.sysexBuilder.reset ().add (0x17).add (0x00);
         for (final int itemIndex: this.itemIndices)
-            msg.append (StringUtils.toHexStr (itemIndex % 128)).append (' ');
-        this.output.sendSysex (msg.append ("F7").toString ());
+            msg.add (itemIndex % 128);
+        this.output.sendSysex (msg);
     }
 
 
@@ -344,7 +352,7 @@ public class MCUControlSurface extends AbstractControlSurface<MCUConfiguration>
     public void switchVuMode (final int mode)
     {
         // Always horizontal
-        this.output.sendSysex (new StringBuilder (SYSEX_HDR).append ("21 00 F7").toString ());
+        this.output.sendSysex (this.sysexBuilder.reset ().add (0x21).add (0x00));
 
         if (this.activeVuMode != mode)
         {
@@ -364,7 +372,7 @@ public class MCUControlSurface extends AbstractControlSurface<MCUConfiguration>
                 {
                     // resets the LEDs (and VU-meters on the display?)
                     out.sendChannelAftertouch (0 + (i << 4), 0);
-                    out.sendSysex (SYSEX_HDR + "20 0" + i + " 01 F7");
+                    out.sendSysex (this.sysexBuilder.reset ().add (0x20).add (i).add (0x01));
                 }
                 break;
 
@@ -372,7 +380,7 @@ public class MCUControlSurface extends AbstractControlSurface<MCUConfiguration>
                 for (int i = 0; i < 8; i++)
                 {
                     out.sendChannelAftertouch (0 + (i << 4), 0);
-                    out.sendSysex (SYSEX_HDR + "20 0" + i + " 03 F7");
+                    out.sendSysex (this.sysexBuilder.reset ().add (0x20).add (i).add (0x03));
                 }
 
                 break;
@@ -380,7 +388,7 @@ public class MCUControlSurface extends AbstractControlSurface<MCUConfiguration>
                 for (int i = 0; i < 8; i++)
                 {
                     out.sendChannelAftertouch (0 + (i << 4), 0);
-                    out.sendSysex (SYSEX_HDR + "20 0" + i + " 06 F7");
+                    out.sendSysex (this.sysexBuilder.reset ().add (0x20).add (i).add (0x06));
                 }
                 break;
 
@@ -388,7 +396,7 @@ public class MCUControlSurface extends AbstractControlSurface<MCUConfiguration>
                 for (int i = 0; i < 8; i++)
                 {
                     out.sendChannelAftertouch (0 + (i << 4), 0);
-                    out.sendSysex (SYSEX_HDR + "20 0" + i + " 00 F7");
+                    out.sendSysex (this.sysexBuilder.reset ().add (0x20).add (i).add (0x00));
                 }
                 break;
 
@@ -16,6 +16,7 @@ import de.mossgrabers.framework.controller.display.AbstractTextDisplay;
 import de.mossgrabers.framework.controller.display.ITextDisplay;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 import de.mossgrabers.framework.utils.LatestTaskExecutor;
 import de.mossgrabers.framework.utils.StringUtils;
 
@@ -27,11 +28,37 @@ import de.mossgrabers.framework.utils.StringUtils;
  */
 public class MCUDisplay extends AbstractTextDisplay
 {
-    private static final String         SYSEX_DISPLAY_HEADER           = "F0 00 00 66 ";
-    private static final String         SYSEX_DISPLAY_HEADER_MAIN      = SYSEX_DISPLAY_HEADER + "14 ";
-    private static final String         SYSEX_DISPLAY_HEADER1_MAIN     = SYSEX_DISPLAY_HEADER_MAIN + "12 ";
-    private static final String         SYSEX_DISPLAY_HEADER1_EXTENDER = SYSEX_DISPLAY_HEADER + "15 12 ";
-    private static final String         SYSEX_DISPLAY_HEADER2          = "F0 00 00 67 15 13 ";
+    private static final int []         SYSEX_DISPLAY_HEADER_MAIN      =
+    {
+        0x00,
+        0x00,
+        0x66,
+        0x14
+    };
+    private static final int []         SYSEX_DISPLAY_HEADER1_MAIN     =
+    {
+        0x00,
+        0x00,
+        0x66,
+        0x14,
+        0x12
+    };
+    private static final int []         SYSEX_DISPLAY_HEADER1_EXTENDER =
+    {
+        0x00,
+        0x00,
+        0x66,
+        0x15,
+        0x12
+    };
+    private static final int []         SYSEX_DISPLAY_HEADER2          =
+    {
+        0x00,
+        0x00,
+        0x67,
+        0x15,
+        0x13
+    };
 
     private final boolean               isFirstDisplay;
     private final boolean               isExtender;
@@ -39,6 +66,7 @@ public class MCUDisplay extends AbstractTextDisplay
     private final Configuration         configuration;
 
     private final LatestTaskExecutor [] executors                      = new LatestTaskExecutor [4];
+    private final SysexBuilder []       builders                       = new SysexBuilder [4];
     private boolean                     isShutdown                     = false;
     private boolean                     insertSpace                    = true;
 
@@ -66,7 +94,11 @@ public class MCUDisplay extends AbstractTextDisplay
         this.centerNotification = false;
 
         for (int i = 0; i < this.executors.length; i++)
+        {
             this.executors[i] = new LatestTaskExecutor ();
+            // One builder for each executor since they might run in parallel
+            this.builders[i] = new SysexBuilder (0xF0);
+        }
     }
 
 
@@ -147,12 +179,13 @@ public class MCUDisplay extends AbstractTextDisplay
         if (this.isShutdown)
             return;
 
-        final LatestTaskExecutor executor = this.executors[row + (this.isFirstDisplay ? 0 : 2)];
-        executor.execute ( () -> {
+        final int executorIndex = row + (this.isFirstDisplay ? 0 : 2);
+        final SysexBuilder builder = this.builders[executorIndex];
+        this.executors[executorIndex].execute ( () -> {
             try
             {
                 int offset = 0;
-                String t = text;
+                int end = text.length () - 1;
                 if (this.isAsparion () && previousText != null && text.length () == previousText.length ())
                 {
                     for (int i = 0; i < text.length (); i++)
@@ -163,7 +196,7 @@ public class MCUDisplay extends AbstractTextDisplay
                             break;
                         }
                     }
-                    int end = offset + 1;
+                    end = offset + 1;
                     for (int i = previousText.length () - 1; i > offset; i--)
                     {
                         if (text.charAt (i) != previousText.charAt (i))
@@ -172,11 +205,10 @@ public class MCUDisplay extends AbstractTextDisplay
                             break;
                         }
                     }
-                    t = text.substring (offset, end + 1);
                 }
 
-                final String hexStr = StringUtils.toHexStr (t.getBytes ());
-                this.output.sendSysex (new StringBuilder (this.getHeader (row, offset)).append (hexStr).append ("F7").toString ());
+                this.addHeader (builder.reset (), row, offset);
+                this.output.sendSysex (builder.addText (text, offset, end + 1));
             }
             catch (final RuntimeException ex)
             {
@@ -186,29 +218,27 @@ public class MCUDisplay extends AbstractTextDisplay
     }
 
 
-    private String getHeader (final int row, final int offset)
+    private void addHeader (final SysexBuilder builder, final int row, final int offset)
     {
-        final StringBuilder header = new StringBuilder ();
         final boolean isAsparion = this.isAsparion ();
 
         if (this.isFirstDisplay)
         {
             if (isAsparion)
-                header.append (SYSEX_DISPLAY_HEADER_MAIN).append ("1A ").append (StringUtils.toHexStr (offset)).append (' ').append (row == 0 ? "01 " : "02 ");
+                builder.add (SYSEX_DISPLAY_HEADER_MAIN).add (0x1A).add (offset).add (row == 0 ? 0x01 : 0x02);
             else
-                header.append (this.isExtender ? SYSEX_DISPLAY_HEADER1_EXTENDER : SYSEX_DISPLAY_HEADER1_MAIN);
+                builder.add (this.isExtender ? SYSEX_DISPLAY_HEADER1_EXTENDER : SYSEX_DISPLAY_HEADER1_MAIN);
         }
         else
         {
             if (isAsparion)
-                header.append (SYSEX_DISPLAY_HEADER_MAIN).append ("19 ").append (StringUtils.toHexStr (offset)).append (' ');
+                builder.add (SYSEX_DISPLAY_HEADER_MAIN).add (0x19).add (offset);
             else
-                header.append (SYSEX_DISPLAY_HEADER2);
+                builder.add (SYSEX_DISPLAY_HEADER2);
         }
 
         if (!isAsparion)
-            header.append (row == 0 ? "00 " : "38 ");
-        return header.toString ();
+            builder.add (row == 0 ? 0x00 : 0x38);
     }
 
 
@@ -37,7 +37,8 @@ public class Kontrol1LightGuide extends LightGuideImpl
     @Override
     public int [] translateToController (final int note)
     {
-        final int [] translated = super.translateToController (note);
+        // Do not modify the array of the super class, it might be shared
+        final int [] translated = super.translateToController (note).clone ();
 
         final int firstNote = this.usbDevice.getFirstNote ();
         if (note < firstNote || note >= firstNote + this.usbDevice.getNumKeys ())
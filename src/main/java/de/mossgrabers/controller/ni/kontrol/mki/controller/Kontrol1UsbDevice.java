@@ -690,15 +690,19 @@ public class Kontrol1UsbDevice
             }
             padBuffer (displayBuffer);
 
-            final byte [] l0 = new byte [SIZE_DISPLAY];
-            displayBuffer.rewind ();
-            displayBuffer.get (l0);
-
-            if (!Arrays.equals (this.line0, l0))
+            // Compare directly with the buffer content to not copy it
+            boolean isLine0Changed = false;
+            for (int i = 0; i < SIZE_DISPLAY; i++)
             {
-                System.arraycopy (l0, 0, this.line0, 0, this.line0.length);
-                this.hidDevice.sendOutputReport (REPORT_ID_OUTPUT_DISPLAY, this.displayBlock);
+                final byte value = displayBuffer.get (i);
+                if (this.line0[i] != value)
+                {
+                    this.line0[i] = value;
+                    isLine0Changed = true;
+                }
             }
+            if (isLine0Changed)
+                this.hidDevice.sendOutputReport (REPORT_ID_OUTPUT_DISPLAY, this.displayBlock);
 
             for (int row = 1; row < 3; row++)
             {
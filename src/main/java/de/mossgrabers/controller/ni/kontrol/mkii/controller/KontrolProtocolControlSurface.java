@@ -15,12 +15,11 @@ import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 import de.mossgrabers.framework.mode.Modes;
 import de.mossgrabers.framework.utils.StringUtils;
 
 import java.util.Arrays;
-import java.util.Map;
-import java.util.TreeMap;
 
 
 /**
@@ -188,6 +187,7 @@ public class KontrolProtocolControlSurface extends AbstractControlSurface<Kontro
 
     private final Object             cacheLock                        = new Object ();
     private final ValueCache         valueCache                       = new ValueCache ();
+    private final SysexBuilder       sysexBuilder                     = new SysexBuilder (NHIA_SYSEX_HEADER);
     private double                   cachedTempo                      = 0;
     private final Object             handshakeLock                    = new Object ();
     private boolean                  isConnectedToNIHIA               = false;
@@ -213,7 +213,7 @@ public class KontrolProtocolControlSurface extends AbstractControlSurface<Kontro
         this.defaultMidiChannel = 15;
         this.sysexCallback = sysexCallback;
 
-        input.setSysexCallback (this::handleSysEx);
+        input.setSysexDataCallback (this::handleSysEx);
     }
 
 
@@ -342,7 +342,14 @@ public class KontrolProtocolControlSurface extends AbstractControlSurface<Kontro
      */
     public void sendKontrolSysEx (final int stateID, final int value, final int index, final String info, final boolean doCache)
     {
-        this.sendKontrolSysEx (stateID, value, index, StringUtils.fixASCII (info).chars ().toArray (), doCache);
+        final String text = StringUtils.fixASCII (info);
+        synchronized (this.cacheLock)
+        {
+            final boolean isPresent = this.valueCache.store (stateID, index, value, text);
+            if (doCache && isPresent)
+                return;
+            this.sendNHIASysEx (this.sysexBuilder.reset ().add (stateID).add (value).add (index).addText (text));
+        }
     }
 
 
@@ -356,7 +363,7 @@ public class KontrolProtocolControlSurface extends AbstractControlSurface<Kontro
      */
     public void sendKontrolSysEx (final int stateID, final int value, final int index, final String info)
     {
-        this.sendKontrolSysEx (stateID, value, index, StringUtils.fixASCII (info).chars ().toArray (), true);
+        this.sendKontrolSysEx (stateID, value, index, info, true);
     }
 
 
@@ -376,16 +383,8 @@ public class KontrolProtocolControlSurface extends AbstractControlSurface<Kontro
             final boolean isPresent = this.valueCache.store (stateID, index, value, info);
             if (doCache && isPresent)
                 return;
+            this.sendNHIASysEx (this.sysexBuilder.reset ().add (stateID).add (value).add (index).add (info));
         }
-
-        final byte [] data = new byte [3 + info.length];
-        data[0] = (byte) stateID;
-        data[1] = (byte) value;
-        data[2] = (byte) index;
-        for (int i = 0; i < info.length; i++)
-            data[3 + i] = (byte) info[i];
-
-        this.sendNHIASysEx (data);
     }
 
 
@@ -487,17 +486,28 @@ public class KontrolProtocolControlSurface extends AbstractControlSurface<Kontro
     }
 
 
+    /**
+     * Send the message of the builder, which already starts with the NHIA header. The builder is
+     * shared, therefore this must be called while holding the cache lock.
+     *
+     * @param builder The builder with the message
+     */
+    private void sendNHIASysEx (final SysexBuilder builder)
+    {
+        this.output.sendSysex (builder);
+    }
+
+
     /**
      * Handle incoming system exclusive messages.
      *
-     * @param data The data of the system exclusive message
+     * @param byteData The system exclusive data
      */
-    private void handleSysEx (final String data)
+    private void handleSysEx (final int [] byteData)
     {
-        final int [] byteData = StringUtils.fromHexStr (data);
         if (!startsWithPrefix (byteData))
         {
-            this.host.error (String.format ("Unused sysex command: %s", data));
+            this.host.error (String.format ("Unused sysex command: %s", StringUtils.toHexStr (byteData)));
             return;
         }
 
@@ -560,14 +570,31 @@ public class KontrolProtocolControlSurface extends AbstractControlSurface<Kontro
 
 
     /**
-     * Caches the values of the system exclusive values.
+     * Caches the values of the system exclusive values. The values are stored in a flat open
+     * addressing hash table with the state ID and the index as the key. The data of an entry is
+     * compared in place and the data array of an entry is only re-created if the length changes.
      */
     private static class ValueCache
     {
-        private final Map<Integer, Map<Integer, int []>> cache                 = new TreeMap<> ();
+        private static final int INITIAL_CAPACITY      = 256;
+        private static final int EMPTY                 = -1;
 
-        private int                                      numParameterPages     = -1;
-        private int                                      selectedParameterPage = -1;
+        private int []           keys                  = new int [INITIAL_CAPACITY];
+        private int []           values                = new int [INITIAL_CAPACITY];
+        private int [] []        data                  = new int [INITIAL_CAPACITY] [];
+        private int              size                  = 0;
+
+        private int              numParameterPages     = -1;
+        private int              selectedParameterPage = -1;
+
+
+        /**
+         * Constructor.
+         */
+        public ValueCache ()
+        {
+            Arrays.fill (this.keys, EMPTY);
+        }
 
 
         /**
@@ -575,7 +602,9 @@ public class KontrolProtocolControlSurface extends AbstractControlSurface<Kontro
          */
         public final void clearCache ()
         {
-            this.cache.clear ();
+            Arrays.fill (this.keys, EMPTY);
+            Arrays.fill (this.data, null);
+            this.size = 0;
         }
 
 
@@ -589,6 +618,27 @@ public class KontrolProtocolControlSurface extends AbstractControlSurface<Kontro
          * @return False if cache was updated otherwise the given value and data are already stored
          */
         public boolean store (final int key1, final int key2, final int value, final int [] data)
+        {
+            return this.store (key1, key2, value, data, null);
+        }
+
+
+        /**
+         * Stores the value and text in the cache for the 2 given keys.
+         *
+         * @param key1 The first key for caching
+         * @param key2 The second key for caching
+         * @param value The value
+         * @param text The text, must only contain ASCII characters
+         * @return False if cache was updated otherwise the given value and text are already stored
+         */
+        public boolean store (final int key1, final int key2, final int value, final String text)
+        {
+            return this.store (key1, key2, value, null, text);
+        }
+
+
+        private boolean store (final int key1, final int key2, final int value, final int [] newData, final String text)
         {
             // Cache does not work for this since the value is the page size which is not different
             // for each page (the index)!
@@ -603,19 +653,78 @@ public class KontrolProtocolControlSurface extends AbstractControlSurface<Kontro
                 return true;
             }
 
-            final Map<Integer, int []> item = this.cache.computeIfAbsent (Integer.valueOf (key1), key -> new TreeMap<> ());
-            final int [] values = item.get (Integer.valueOf (key2));
+            final int key = (key1 & 0xFF) << 16 | key2 & 0xFFFF;
+            final int slot = this.findSlot (key);
+            final int length = newData == null ? text.length () : newData.length;
 
-            final int [] newValues = new int [1 + data.length];
-            newValues[0] = value;
-            if (data.length > 0)
-                System.arraycopy (data, 0, newValues, 1, data.length);
+            int [] stored = this.data[slot];
+            if (this.keys[slot] == key)
+            {
+                if (this.values[slot] == value && stored.length == length && isEqual (stored, newData, text))
+                    return true;
+            }
+            else
+            {
+                this.keys[slot] = key;
+                this.size++;
+            }
 
-            if (Arrays.equals (values, newValues))
-                return true;
+            this.values[slot] = value;
+            if (stored == null || stored.length != length)
+            {
+                stored = new int [length];
+                this.data[slot] = stored;
+            }
+            for (int i = 0; i < length; i++)
+                stored[i] = newData == null ? text.charAt (i) : newData[i];
 
-            item.put (Integer.valueOf (key2), newValues);
+            if (this.size * 2 > this.keys.length)
+                this.grow ();
             return false;
         }
+
+
+        private int findSlot (final int key)
+        {
+            final int mask = this.keys.length - 1;
+            int slot = key * 0x9E3779B9 >>> 16 & mask;
+            while (this.keys[slot] != EMPTY && this.keys[slot] != key)
+                slot = slot + 1 & mask;
+            return slot;
+        }
+
+
+        private void grow ()
+        {
+            final int [] oldKeys = this.keys;
+            final int [] oldValues = this.values;
+            final int [] [] oldData = this.data;
+
+            this.keys = new int [oldKeys.length * 2];
+            this.values = new int [this.keys.length];
+            this.data = new int [this.keys.length] [];
+            Arrays.fill (this.keys, EMPTY);
+
+            for (int i = 0; i < oldKeys.length; i++)
+            {
+                if (oldKeys[i] == EMPTY)
+                    continue;
+                final int slot = this.findSlot (oldKeys[i]);
+                this.keys[slot] = oldKeys[i];
+                this.values[slot] = oldValues[i];
+                this.data[slot] = oldData[i];
+            }
+        }
+
+
+        private static boolean isEqual (final int [] stored, final int [] newData, final String text)
+        {
+            for (int i = 0; i < stored.length; i++)
+            {
+                if (stored[i] != (newData == null ? text.charAt (i) : newData[i]))
+                    return false;
+            }
+            return true;
+        }
     }
 }
\ No newline at end of file
@@ -123,7 +123,7 @@ public class LaunchControlXLControlSurface extends AbstractControlSurface<Launch
     {
         super (host, configuration, colorManager, output, input, null, 650, 450);
 
-        this.input.setSysexCallback (this::handleSysEx);
+        this.input.setSysexDataCallback (this::handleSysEx);
     }
 
 
@@ -204,12 +204,10 @@ public class LaunchControlXLControlSurface extends AbstractControlSurface<Launch
     /**
      * Handle system exclusive messages.
      *
-     * @param data The received message
+     * @param byteData The system exclusive data
      */
-    private void handleSysEx (final String data)
+    private void handleSysEx (final int [] byteData)
     {
-        final int [] byteData = StringUtils.fromHexStr (data);
-
         // Handle template change - F0h 00h 20h 29h 02h 11h 77h Template F7h
         if (byteData.length == 9 && Arrays.equals (byteData, 0, TEMPLATE_CHANGE_HEADER.length, TEMPLATE_CHANGE_HEADER, 0, TEMPLATE_CHANGE_HEADER.length))
         {
@@ -223,7 +221,7 @@ public class LaunchControlXLControlSurface extends AbstractControlSurface<Launch
             return;
         }
 
-        this.errorln ("Unhandled Sysex: " + data);
+        this.errorln ("Unhandled Sysex: " + StringUtils.toHexStr (byteData));
     }
 
 
@@ -19,7 +19,6 @@ import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.featuregroup.IMode;
 import de.mossgrabers.framework.featuregroup.ModeManager;
-import de.mossgrabers.framework.utils.StringUtils;
 import de.mossgrabers.framework.view.Views;
 
 
@@ -168,7 +167,7 @@ public class LaunchkeyMk3ControlSurface extends AbstractControlSurface<Launchkey
     {
         super (host, configuration, colorManager, output, input, new LaunchkeyPadGrid (colorManager, output), 1400, 600);
 
-        this.input.setSysexCallback (this::handleSysEx);
+        this.input.setSysexDataCallback (this::handleSysEx);
         this.output.sendSysex (DeviceInquiry.createQuery ());
     }
 
@@ -190,14 +189,14 @@ public class LaunchkeyMk3ControlSurface extends AbstractControlSurface<Launchkey
 
             final ButtonID buttonID = ButtonID.get (ButtonID.PAD17, i);
             IHwButton pad = this.createButton (buttonID, "D " + (i + 1));
-            pad.addLight (this.surfaceFactory.createLight (this.surfaceID, null, () -> this.padGrid.getLightInfo (note).getEncoded (), state -> this.padGrid.sendState (note), colorIndex -> this.colorManager.getColor (colorIndex, buttonID), null));
+            pad.addLight (this.surfaceFactory.createLight (this.surfaceID, null, () -> this.padGrid.getEncodedState (note), state -> this.padGrid.sendState (note), colorIndex -> this.colorManager.getColor (colorIndex, buttonID), null));
             int [] translated = LaunchkeyPadGrid.translateToController (Views.DRUM, note);
             pad.bind (this.input, BindType.NOTE, translated[0], translated[1]);
             pad.bind ( (event, velocity) -> this.handleGridNote (event, note, velocity));
 
             final ButtonID buttonID2 = ButtonID.get (ButtonID.PAD33, i);
             pad = this.createButton (buttonID2, "DS " + (i + 1));
-            pad.addLight (this.surfaceFactory.createLight (this.surfaceID, null, () -> this.padGrid.getLightInfo (note).getEncoded (), state -> this.padGrid.sendState (note), colorIndex -> this.colorManager.getColor (colorIndex, buttonID2), null));
+            pad.addLight (this.surfaceFactory.createLight (this.surfaceID, null, () -> this.padGrid.getEncodedState (note), state -> this.padGrid.sendState (note), colorIndex -> this.colorManager.getColor (colorIndex, buttonID2), null));
             translated = LaunchkeyPadGrid.translateToController (Views.DEVICE, note);
             pad.bind (this.input, BindType.NOTE, translated[0], translated[1]);
             pad.bind ( (event, velocity) -> this.handleGridNote (event, note, velocity));
@@ -311,10 +310,8 @@ public class LaunchkeyMk3ControlSurface extends AbstractControlSurface<Launchkey
     }
 
 
-    private void handleSysEx (final String data)
+    private void handleSysEx (final int [] byteData)
     {
-        final int [] byteData = StringUtils.fromHexStr (data);
-
         final DeviceInquiry deviceInquiry = new DeviceInquiry (byteData);
         if (deviceInquiry.isValid ())
             this.handleDeviceInquiryResponse (deviceInquiry);
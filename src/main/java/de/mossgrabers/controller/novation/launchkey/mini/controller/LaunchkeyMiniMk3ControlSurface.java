@@ -15,7 +15,6 @@ import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.DeviceInquiry;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
-import de.mossgrabers.framework.utils.StringUtils;
 import de.mossgrabers.framework.view.Views;
 
 
@@ -91,7 +90,7 @@ public class LaunchkeyMiniMk3ControlSurface extends AbstractControlSurface<Launc
 
             final ButtonID buttonID = ButtonID.get (ButtonID.PAD17, i);
             final IHwButton pad = this.createButton (buttonID, "D " + (i + 1));
-            pad.addLight (this.surfaceFactory.createLight (this.surfaceID, null, () -> this.padGrid.getLightInfo (note).getEncoded (), state -> this.padGrid.sendState (note), colorIndex -> this.colorManager.getColor (colorIndex, buttonID), null));
+            pad.addLight (this.surfaceFactory.createLight (this.surfaceID, null, () -> this.padGrid.getEncodedState (note), state -> this.padGrid.sendState (note), colorIndex -> this.colorManager.getColor (colorIndex, buttonID), null));
             final int [] translated = LaunchkeyPadGrid.translateToController (Views.DRUM, note);
             pad.bind (input, BindType.NOTE, translated[0], translated[1]);
             pad.bind ( (event, velocity) -> this.handleGridNote (event, note, velocity));
@@ -99,7 +98,7 @@ public class LaunchkeyMiniMk3ControlSurface extends AbstractControlSurface<Launc
 
         this.pageAdjuster = pageAdjuster;
 
-        this.input.setSysexCallback (this::handleSysEx);
+        this.input.setSysexDataCallback (this::handleSysEx);
         this.output.sendSysex (DeviceInquiry.createQuery ());
     }
 
@@ -187,10 +186,8 @@ public class LaunchkeyMiniMk3ControlSurface extends AbstractControlSurface<Launc
     }
 
 
-    private void handleSysEx (final String data)
+    private void handleSysEx (final int [] byteData)
     {
-        final int [] byteData = StringUtils.fromHexStr (data);
-
         final DeviceInquiry deviceInquiry = new DeviceInquiry (byteData);
         if (deviceInquiry.isValid ())
             this.handleDeviceInquiryResponse (deviceInquiry);
@@ -10,9 +10,9 @@ import de.mossgrabers.framework.controller.grid.LightInfo;
 import de.mossgrabers.framework.controller.grid.PadGridImpl;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.TreeMap;
 
 
 /**
@@ -37,14 +37,24 @@ public class LaunchpadPadGrid extends PadGridImpl
     // @formatter:on
 
     private static final Map<Integer, Integer> INVERSE_TRANSLATE_MATRIX = new HashMap<> (64);
+    private static final int [] []             TRANSLATIONS             = new int [TRANSLATE_MATRIX.length] [];
     static
     {
         for (int i = 0; i < TRANSLATE_MATRIX.length; i++)
+        {
             INVERSE_TRANSLATE_MATRIX.put (Integer.valueOf (TRANSLATE_MATRIX[i]), Integer.valueOf (36 + i));
+            TRANSLATIONS[i] = new int []
+            {
+                0,
+                TRANSLATE_MATRIX[i]
+            };
+        }
     }
 
     private final ILaunchpadControllerDefinition definition;
-    private final Map<Integer, LightInfo>        padInfos = new TreeMap<> ();
+    private final LightInfo []                   padInfos    = new LightInfo [NUM_NOTES];
+    private final LightInfo []                   padInfoPool = new LightInfo [NUM_NOTES];
+    private boolean                              hasUpdates  = false;
 
 
     /**
@@ -59,6 +69,9 @@ public class LaunchpadPadGrid extends PadGridImpl
         super (colorManager, output);
 
         this.definition = definition;
+
+        for (int i = 0; i < NUM_NOTES; i++)
+            this.padInfoPool[i] = new LightInfo ();
     }
 
 
@@ -76,11 +89,7 @@ public class LaunchpadPadGrid extends PadGridImpl
     public int [] translateToController (final int note)
     {
         // Translates note range 36-100 to launchpad grid (11-18, 21-28, ...)
-        return new int []
-        {
-            0,
-            TRANSLATE_MATRIX[note - 36]
-        };
+        return TRANSLATIONS[note - 36];
     }
 
 
@@ -91,11 +100,12 @@ public class LaunchpadPadGrid extends PadGridImpl
     {
         synchronized (this.padInfos)
         {
-            if (this.padInfos.isEmpty ())
+            if (!this.hasUpdates)
                 return;
             for (final String update: this.definition.buildLEDUpdate (this.padInfos))
                 this.output.sendSysex (update);
-            this.padInfos.clear ();
+            Arrays.fill (this.padInfos, null);
+            this.hasUpdates = false;
         }
     }
 
@@ -106,7 +116,7 @@ public class LaunchpadPadGrid extends PadGridImpl
     {
         synchronized (this.padInfos)
         {
-            this.padInfos.computeIfAbsent (Integer.valueOf (note), key -> new LightInfo ()).setColor (color);
+            this.getPadInfo (note).setColor (color);
         }
     }
 
@@ -117,9 +127,30 @@ public class LaunchpadPadGrid extends PadGridImpl
     {
         synchronized (this.padInfos)
         {
-            final LightInfo info = this.padInfos.computeIfAbsent (Integer.valueOf (note), key -> new LightInfo ());
+            final LightInfo info = this.getPadInfo (note);
             info.setBlinkColor (blinkColor);
             info.setFast (fast);
         }
     }
+
+
+    /**
+     * Get the info object which collects the updates of a pad until the next flush. The info
+     * objects are re-used to not create new objects on each update.
+     *
+     * @param note The note of the pad
+     * @return The info
+     */
+    private LightInfo getPadInfo (final int note)
+    {
+        LightInfo info = this.padInfos[note];
+        if (info == null)
+        {
+            info = this.padInfoPool[note];
+            info.setColors (0, 0, false);
+            this.padInfos[note] = info;
+            this.hasUpdates = true;
+        }
+        return info;
+    }
 }
\ No newline at end of file
@@ -13,8 +13,6 @@ import de.mossgrabers.framework.utils.StringUtils;
 
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -111,13 +109,14 @@ public abstract class AbstractLaunchpadDefinition extends DefaultControllerDefin
 
     /** {@inheritDoc} */
     @Override
-    public List<String> buildLEDUpdate (final Map<Integer, LightInfo> padInfos)
+    public List<String> buildLEDUpdate (final LightInfo [] padInfos)
     {
         final StringBuilder sb = new StringBuilder (this.getSysExHeader ()).append ("03 ");
-        for (final Entry<Integer, LightInfo> e: padInfos.entrySet ())
+        for (int note = 0; note < padInfos.length; note++)
         {
-            final int note = e.getKey ().intValue ();
-            final LightInfo info = e.getValue ();
+            final LightInfo info = padInfos[note];
+            if (info == null)
+                continue;
 
             if (info.getBlinkColor () <= 0)
             {
@@ -9,7 +9,6 @@ import de.mossgrabers.controller.novation.launchpad.definition.button.ButtonSetu
 import de.mossgrabers.framework.controller.grid.LightInfo;
 
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 
@@ -96,10 +95,11 @@ public interface ILaunchpadControllerDefinition
     /**
      * Create an update system exclusive string for all given pads.
      *
-     * @param padInfos The info how to update the pads
+     * @param padInfos The info how to update the pads indexed by the note, null entries are not
+     *            updated
      * @return The system exclusive string
      */
-    List<String> buildLEDUpdate (Map<Integer, LightInfo> padInfos);
+    List<String> buildLEDUpdate (LightInfo [] padInfos);
 
 
     /**
@@ -13,8 +13,6 @@ import de.mossgrabers.framework.utils.StringUtils;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.UUID;
 
 
@@ -109,16 +107,17 @@ public class LaunchpadMkIIControllerDefinition extends AbstractLaunchpadDefiniti
 
     /** {@inheritDoc} */
     @Override
-    public List<String> buildLEDUpdate (final Map<Integer, LightInfo> padInfos)
+    public List<String> buildLEDUpdate (final LightInfo [] padInfos)
     {
         final StringBuilder sbNormal = new StringBuilder ();
         final StringBuilder sbFlash = new StringBuilder ();
         final StringBuilder sbPulse = new StringBuilder ();
 
-        for (final Entry<Integer, LightInfo> e: padInfos.entrySet ())
+        for (int note = 0; note < padInfos.length; note++)
         {
-            final int note = e.getKey ().intValue ();
-            final LightInfo info = e.getValue ();
+            final LightInfo info = padInfos[note];
+            if (info == null)
+                continue;
 
             sbNormal.append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getColor ())).append (' ');
 
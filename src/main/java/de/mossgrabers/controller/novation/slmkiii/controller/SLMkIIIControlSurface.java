@@ -12,7 +12,6 @@ import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.DeviceInquiry;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
-import de.mossgrabers.framework.utils.StringUtils;
 
 
 /**
@@ -120,7 +119,7 @@ public class SLMkIIIControlSurface extends AbstractControlSurface<SLMkIIIConfigu
 
         this.addTextDisplay (new SLMkIIIDisplay (host, output));
 
-        this.input.setSysexCallback (this::handleSysEx);
+        this.input.setSysexDataCallback (this::handleSysEx);
 
         ((SLMkIIILightGuide) this.lightGuide).setActive (true);
     }
@@ -129,11 +128,10 @@ public class SLMkIIIControlSurface extends AbstractControlSurface<SLMkIIIConfigu
     /**
      * Handle incoming system exclusive data.
      *
-     * @param data The data
+     * @param byteData The system exclusive data
      */
-    private void handleSysEx (final String data)
+    private void handleSysEx (final int [] byteData)
     {
-        final int [] byteData = StringUtils.fromHexStr (data);
         final DeviceInquiry deviceInquiry = new DeviceInquiry (byteData);
         if (deviceInquiry.isValid ())
             this.handleDeviceInquiryResponse (deviceInquiry);
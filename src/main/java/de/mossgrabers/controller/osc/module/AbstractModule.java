@@ -4,13 +4,16 @@
 
 package de.mossgrabers.controller.osc.module;
 
-import java.util.LinkedList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
+import de.mossgrabers.controller.osc.protocol.OSCPath;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
@@ -27,31 +30,35 @@ import de.mossgrabers.framework.parameter.IParameter;
  */
 public abstract class AbstractModule implements IModule
 {
-    private static final Pattern      RGB_COLOR_PATTERN = Pattern.compile ("(rgb|RGB)\\((\\d+(\\.\\d+)?),(\\d+(\\.\\d+)?),(\\d+(\\.\\d+)?)\\)");
-
-    protected static final String     TAG_EXISTS        = "exists";
-    protected static final String     TAG_ACTIVATED     = "activated";
-    protected static final String     TAG_NAME          = "name";
-    protected static final String     TAG_SELECTED      = "selected";
-    protected static final String     TAG_SELECT        = "select";
-    protected static final String     TAG_DUPLICATE     = "duplicate";
-    protected static final String     TAG_INSERT_FILE   = "insertFile";
-    protected static final String     TAG_REMOVE        = "remove";
-    protected static final String     TAG_VOLUME        = "volume";
-    protected static final String     TAG_PAGE          = "page";
-    protected static final String     TAG_INDICATE      = "indicate";
-    protected static final String     TAG_TOUCHED       = "touched";
-    protected static final String     TAG_COLOR         = "color";
-    protected static final String     TAG_BYPASS        = "bypass";
-    protected static final String     TAG_PARAM         = "param";
-    protected static final String     TAG_MIXER         = "mixer";
-    protected static final String     TAG_PREROLL       = "preroll";
-    protected static final String     TAG_RESET         = "reset";
+    private static final Pattern      RGB_COLOR_PATTERN      = Pattern.compile ("(rgb|RGB)\\((\\d+(\\.\\d+)?),(\\d+(\\.\\d+)?),(\\d+(\\.\\d+)?)\\)");
+
+    protected static final String     TAG_EXISTS             = "exists";
+    protected static final String     TAG_ACTIVATED          = "activated";
+    protected static final String     TAG_NAME               = "name";
+    protected static final String     TAG_SELECTED           = "selected";
+    protected static final String     TAG_SELECT             = "select";
+    protected static final String     TAG_DUPLICATE          = "duplicate";
+    protected static final String     TAG_INSERT_FILE        = "insertFile";
+    protected static final String     TAG_REMOVE             = "remove";
+    protected static final String     TAG_VOLUME             = "volume";
+    protected static final String     TAG_PAGE               = "page";
+    protected static final String     TAG_INDICATE           = "indicate";
+    protected static final String     TAG_TOUCHED            = "touched";
+    protected static final String     TAG_COLOR              = "color";
+    protected static final String     TAG_BYPASS             = "bypass";
+    protected static final String     TAG_PARAM              = "param";
+    protected static final String     TAG_MIXER              = "mixer";
+    protected static final String     TAG_PREROLL            = "preroll";
+    protected static final String     TAG_RESET              = "reset";
+    protected static final String     TAG_PAGE_SELECTED_NAME = "page/selected/" + TAG_NAME;
 
     protected final IHost             host;
     protected final IModel            model;
     protected IOpenSoundControlWriter writer;
 
+    private final Map<String, Map<String, String>> addresses        = new HashMap<> ();
+    private final Map<String, String []>           indexedAddresses = new HashMap<> ();
+
 
     /**
      * Constructor.
@@ -76,6 +83,61 @@ public abstract class AbstractModule implements IModule
     }
 
 
+    /**
+     * Get the address which is the concatenation of the prefix and the tag. The addresses are
+     * cached to not create the same strings again on each flush.
+     *
+     * @param prefix The prefix of the address, e.g. "/track/1/"
+     * @param tag The tag to append, e.g. "volume"
+     * @return The address
+     */
+    protected String getAddress (final String prefix, final String tag)
+    {
+        Map<String, String> tags = this.addresses.get (prefix);
+        if (tags == null)
+        {
+            tags = new HashMap<> ();
+            this.addresses.put (prefix, tags);
+        }
+
+        String address = tags.get (tag);
+        if (address == null)
+        {
+            address = prefix + tag;
+            tags.put (tag, address);
+        }
+        return address;
+    }
+
+
+    /**
+     * Get the address of a numbered element, e.g. the prefix "/track/" and the number 1 result in
+     * "/track/1/". The addresses are cached to not create the same strings again on each flush.
+     *
+     * @param prefix The prefix of the address
+     * @param number The number of the element
+     * @return The address
+     */
+    protected String getIndexedAddress (final String prefix, final int number)
+    {
+        String [] numbered = this.indexedAddresses.get (prefix);
+        if (numbered == null || number >= numbered.length)
+        {
+            final int size = Math.max (number + 1, 16);
+            numbered = numbered == null ? new String [size] : Arrays.copyOf (numbered, Math.max (size, numbered.length * 2));
+            this.indexedAddresses.put (prefix, numbered);
+        }
+
+        String address = numbered[number];
+        if (address == null)
+        {
+            address = prefix + number + "/";
+            numbered[number] = address;
+        }
+        return address;
+    }
+
+
     /**
      * Get the clip to use.
      *
@@ -170,7 +232,7 @@ public abstract class AbstractModule implements IModule
      * @return The sub-command
      * @throws MissingCommandException If the path is empty
      */
-    protected static String getSubCommand (final LinkedList<String> path) throws MissingCommandException
+    protected static String getSubCommand (final OSCPath path) throws MissingCommandException
     {
         if (path.isEmpty ())
             throw new MissingCommandException ();
@@ -190,13 +252,13 @@ public abstract class AbstractModule implements IModule
     {
         final boolean isSend = fxParam instanceof ISend;
         if (isSend)
-            writer.sendOSC (fxAddress + TAG_ACTIVATED, ((ISend) fxParam).isEnabled (), dump);
+            writer.sendOSC (this.getAddress (fxAddress, TAG_ACTIVATED), ((ISend) fxParam).isEnabled (), dump);
 
-        writer.sendOSC (fxAddress + TAG_EXISTS, fxParam.doesExist (), dump);
-        writer.sendOSC (fxAddress + TAG_NAME, fxParam.getName (), dump);
-        writer.sendOSC (fxAddress + (isSend ? "volumeStr" : "valueStr"), fxParam.getDisplayedValue (), dump);
-        writer.sendOSC (fxAddress + (isSend ? TAG_VOLUME : "value"), fxParam.getValue (), dump);
-        writer.sendOSC (fxAddress + "modulatedValue", fxParam.getModulatedValue (), dump);
+        writer.sendOSC (this.getAddress (fxAddress, TAG_EXISTS), fxParam.doesExist (), dump);
+        writer.sendOSC (this.getAddress (fxAddress, TAG_NAME), fxParam.getName (), dump);
+        writer.sendOSC (this.getAddress (fxAddress, isSend ? "volumeStr" : "valueStr"), fxParam.getDisplayedValue (), dump);
+        writer.sendOSC (this.getAddress (fxAddress, isSend ? TAG_VOLUME : "value"), fxParam.getValue (), dump);
+        writer.sendOSC (this.getAddress (fxAddress, "modulatedValue"), fxParam.getModulatedValue (), dump);
     }
 
 
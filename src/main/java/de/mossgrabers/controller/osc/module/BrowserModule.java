@@ -4,11 +4,11 @@
 
 package de.mossgrabers.controller.osc.module;
 
-import java.util.LinkedList;
 
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
 import de.mossgrabers.controller.osc.exception.UnknownCommandException;
+import de.mossgrabers.controller.osc.protocol.OSCPath;
 import de.mossgrabers.framework.daw.IBrowser;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
@@ -50,7 +50,7 @@ public class BrowserModule extends AbstractModule
 
     /** {@inheritDoc} */
     @Override
-    public void execute (final String command, final LinkedList<String> path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
+    public void execute (final String command, final OSCPath path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
     {
         if (!"browser".equals (command))
             throw new UnknownCommandException (command);
@@ -131,43 +131,43 @@ public class BrowserModule extends AbstractModule
         final IBrowser browser = this.model.getBrowser ();
 
         final boolean isActive = browser.isActive ();
-        this.writer.sendOSC (browserAddress + "isActive", isActive, dump);
+        this.writer.sendOSC (this.getAddress (browserAddress, "isActive"), isActive, dump);
 
         if (!isActive)
             return;
 
-        this.writer.sendOSC (browserAddress + "tab", browser.getSelectedContentType (), dump);
+        this.writer.sendOSC (this.getAddress (browserAddress, "tab"), browser.getSelectedContentType (), dump);
 
         IBrowserColumn column;
         // Filter Columns
         for (int i = 0; i < browser.getFilterColumnCount (); i++)
         {
-            final String filterAddress = browserAddress + "filter/" + (i + 1) + "/";
+            final String filterAddress = this.getIndexedAddress (this.getAddress (browserAddress, "filter/"), i + 1);
             column = browser.getFilterColumn (i);
-            this.writer.sendOSC (filterAddress + TAG_EXISTS, column.doesExist (), dump);
-            this.writer.sendOSC (filterAddress + TAG_NAME, column.getName (), dump);
-            this.writer.sendOSC (filterAddress + "wildcard", column.getWildcard (), dump);
+            this.writer.sendOSC (this.getAddress (filterAddress, TAG_EXISTS), column.doesExist (), dump);
+            this.writer.sendOSC (this.getAddress (filterAddress, TAG_NAME), column.getName (), dump);
+            this.writer.sendOSC (this.getAddress (filterAddress, "wildcard"), column.getWildcard (), dump);
             final IBrowserColumnItem [] items = column.getItems ();
             for (int j = 0; j < items.length; j++)
             {
-                final String browserItemAddress = filterAddress + "item/" + (j + 1) + "/";
-                this.writer.sendOSC (browserItemAddress + TAG_EXISTS, items[j].doesExist (), dump);
-                this.writer.sendOSC (browserItemAddress + TAG_NAME, items[j].getName (), dump);
-                this.writer.sendOSC (browserItemAddress + "hits", items[j].getHitCount (), dump);
-                this.writer.sendOSC (browserItemAddress + "isSelected", items[j].isSelected (), dump);
+                final String browserItemAddress = this.getIndexedAddress (this.getAddress (filterAddress, "item/"), j + 1);
+                this.writer.sendOSC (this.getAddress (browserItemAddress, TAG_EXISTS), items[j].doesExist (), dump);
+                this.writer.sendOSC (this.getAddress (browserItemAddress, TAG_NAME), items[j].getName (), dump);
+                this.writer.sendOSC (this.getAddress (browserItemAddress, "hits"), items[j].getHitCount (), dump);
+                this.writer.sendOSC (this.getAddress (browserItemAddress, "isSelected"), items[j].isSelected (), dump);
             }
         }
 
         // Presets
-        final String presetAddress = browserAddress + "result/";
+        final String presetAddress = this.getAddress (browserAddress, "result/");
         final IBrowserColumnItem [] items = browser.getResultColumnItems ();
         for (int i = 0; i < items.length; i++)
         {
-            final String browserPresetAddress = presetAddress + (i + 1) + "/";
-            this.writer.sendOSC (browserPresetAddress + TAG_EXISTS, items[i].doesExist (), dump);
-            this.writer.sendOSC (browserPresetAddress + TAG_NAME, items[i].getName (), dump);
-            this.writer.sendOSC (browserPresetAddress + "hits", items[i].getHitCount (), dump);
-            this.writer.sendOSC (browserPresetAddress + "isSelected", items[i].isSelected (), dump);
+            final String browserPresetAddress = this.getIndexedAddress (presetAddress, i + 1);
+            this.writer.sendOSC (this.getAddress (browserPresetAddress, TAG_EXISTS), items[i].doesExist (), dump);
+            this.writer.sendOSC (this.getAddress (browserPresetAddress, TAG_NAME), items[i].getName (), dump);
+            this.writer.sendOSC (this.getAddress (browserPresetAddress, "hits"), items[i].getHitCount (), dump);
+            this.writer.sendOSC (this.getAddress (browserPresetAddress, "isSelected"), items[i].isSelected (), dump);
         }
     }
 }
@@ -4,13 +4,13 @@
 
 package de.mossgrabers.controller.osc.module;
 
-import java.util.LinkedList;
 import java.util.Optional;
 
 import de.mossgrabers.controller.osc.OSCConfiguration;
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
 import de.mossgrabers.controller.osc.exception.UnknownCommandException;
+import de.mossgrabers.controller.osc.protocol.OSCPath;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
@@ -78,7 +78,7 @@ public class DeviceModule extends AbstractModule
 
     /** {@inheritDoc} */
     @Override
-    public void execute (final String command, final LinkedList<String> path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
+    public void execute (final String command, final OSCPath path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
     {
         switch (command)
         {
@@ -113,11 +113,11 @@ public class DeviceModule extends AbstractModule
         {
             final IDrumPadBank drumPadBank = cd.getDrumPadBank ();
             for (int i = 0; i < drumPadBank.getPageSize (); i++)
-                this.flushDeviceLayer (this.writer, "/device/drumpad/" + (i + 1) + "/", drumPadBank.getItem (i), dump);
+                this.flushDeviceLayer (this.writer, this.getIndexedAddress ("/device/drumpad/", i + 1), drumPadBank.getItem (i), dump);
         }
         final ILayerBank layerBank = cd.getLayerBank ();
         for (int i = 0; i < layerBank.getPageSize (); i++)
-            this.flushDeviceLayer (this.writer, "/device/layer/" + (i + 1) + "/", layerBank.getItem (i), dump);
+            this.flushDeviceLayer (this.writer, this.getIndexedAddress ("/device/layer/", i + 1), layerBank.getItem (i), dump);
         final Optional<ILayer> selectedLayer = layerBank.getSelectedItem ();
         this.flushDeviceLayer (this.writer, "/device/layer/selected/", selectedLayer.isEmpty () ? EmptyLayer.getInstance (layerBank.getPageSize ()) : selectedLayer.get (), dump);
 
@@ -141,12 +141,12 @@ public class DeviceModule extends AbstractModule
      */
     private void flushDevice (final IOpenSoundControlWriter writer, final String deviceAddress, final ISpecificDevice device, final boolean dump)
     {
-        writer.sendOSC (deviceAddress + TAG_EXISTS, device.doesExist (), dump);
-        writer.sendOSC (deviceAddress + TAG_NAME, device.getName (), dump);
-        writer.sendOSC (deviceAddress + TAG_BYPASS, !device.isEnabled (), dump);
-        writer.sendOSC (deviceAddress + "expand", device.isExpanded (), dump);
-        writer.sendOSC (deviceAddress + "parameters", device.isParameterPageSectionVisible (), dump);
-        writer.sendOSC (deviceAddress + "window", device.isWindowOpen (), dump);
+        writer.sendOSC (this.getAddress (deviceAddress, TAG_EXISTS), device.doesExist (), dump);
+        writer.sendOSC (this.getAddress (deviceAddress, TAG_NAME), device.getName (), dump);
+        writer.sendOSC (this.getAddress (deviceAddress, TAG_BYPASS), !device.isEnabled (), dump);
+        writer.sendOSC (this.getAddress (deviceAddress, "expand"), device.isExpanded (), dump);
+        writer.sendOSC (this.getAddress (deviceAddress, "parameters"), device.isParameterPageSectionVisible (), dump);
+        writer.sendOSC (this.getAddress (deviceAddress, "window"), device.isWindowOpen (), dump);
 
         if (device instanceof final IEqualizerDevice equalizer)
         {
@@ -154,10 +154,10 @@ public class DeviceModule extends AbstractModule
             {
                 final int oneplus = i + 1;
 
-                writer.sendOSC (deviceAddress + "type/" + oneplus + "/value", equalizer.getTypeID (i).name ().toLowerCase (), dump);
-                this.flushParameterData (writer, deviceAddress + "gain/" + oneplus + "/", equalizer.getGainParameter (i), dump);
-                this.flushParameterData (writer, deviceAddress + "freq/" + oneplus + "/", equalizer.getFrequencyParameter (i), dump);
-                this.flushParameterData (writer, deviceAddress + "q/" + oneplus + "/", equalizer.getQParameter (i), dump);
+                writer.sendOSC (this.getAddress (this.getIndexedAddress (this.getAddress (deviceAddress, "type/"), oneplus), "value"), equalizer.getTypeID (i).name ().toLowerCase (), dump);
+                this.flushParameterData (writer, this.getIndexedAddress (this.getAddress (deviceAddress, "gain/"), oneplus), equalizer.getGainParameter (i), dump);
+                this.flushParameterData (writer, this.getIndexedAddress (this.getAddress (deviceAddress, "freq/"), oneplus), equalizer.getFrequencyParameter (i), dump);
+                this.flushParameterData (writer, this.getIndexedAddress (this.getAddress (deviceAddress, "q/"), oneplus), equalizer.getQParameter (i), dump);
             }
             return;
         }
@@ -170,11 +170,11 @@ public class DeviceModule extends AbstractModule
             {
                 final int oneplus = i + 1;
                 final IDevice siblingDevice = deviceBank.getItem (i);
-                final String siblingAddress = deviceAddress + "sibling/" + oneplus + "/";
-                writer.sendOSC (siblingAddress + TAG_EXISTS, siblingDevice.doesExist (), dump);
-                writer.sendOSC (siblingAddress + TAG_NAME, siblingDevice.getName (), dump);
-                writer.sendOSC (siblingAddress + TAG_BYPASS, !siblingDevice.isEnabled (), dump);
-                writer.sendOSC (siblingAddress + TAG_SELECTED, i == positionInBank, dump);
+                final String siblingAddress = this.getIndexedAddress (this.getAddress (deviceAddress, "sibling/"), oneplus);
+                writer.sendOSC (this.getAddress (siblingAddress, TAG_EXISTS), siblingDevice.doesExist (), dump);
+                writer.sendOSC (this.getAddress (siblingAddress, TAG_NAME), siblingDevice.getName (), dump);
+                writer.sendOSC (this.getAddress (siblingAddress, TAG_BYPASS), !siblingDevice.isEnabled (), dump);
+                writer.sendOSC (this.getAddress (siblingAddress, TAG_SELECTED), i == positionInBank, dump);
             }
         }
 
@@ -182,7 +182,7 @@ public class DeviceModule extends AbstractModule
         for (int i = 0; i < parameterBank.getPageSize (); i++)
         {
             final int oneplus = i + 1;
-            this.flushParameterData (writer, deviceAddress + "param/" + oneplus + "/", parameterBank.getItem (i), dump);
+            this.flushParameterData (writer, this.getIndexedAddress (this.getAddress (deviceAddress, "param/"), oneplus), parameterBank.getItem (i), dump);
         }
 
         final IParameterPageBank parameterPageBank = device.getParameterBank ().getPageBank ();
@@ -191,14 +191,14 @@ public class DeviceModule extends AbstractModule
         {
             final int oneplus = i + 1;
             final String pageName = parameterPageBank.getItem (i);
-            final String pageAddress = deviceAddress + "page/" + oneplus + "/";
-            writer.sendOSC (pageAddress + TAG_EXISTS, !pageName.isBlank (), dump);
+            final String pageAddress = this.getIndexedAddress (this.getAddress (deviceAddress, "page/"), oneplus);
+            writer.sendOSC (this.getAddress (pageAddress, TAG_EXISTS), !pageName.isBlank (), dump);
             writer.sendOSC (pageAddress, pageName, dump);
-            writer.sendOSC (pageAddress + TAG_NAME, pageName, dump);
-            writer.sendOSC (pageAddress + TAG_SELECTED, selectedParameterPage == i, dump);
+            writer.sendOSC (this.getAddress (pageAddress, TAG_NAME), pageName, dump);
+            writer.sendOSC (this.getAddress (pageAddress, TAG_SELECTED), selectedParameterPage == i, dump);
         }
         final Optional<String> selectedItem = parameterPageBank.getSelectedItem ();
-        writer.sendOSC (deviceAddress + "page/selected/" + TAG_NAME, selectedItem.isPresent () ? selectedItem.get () : "", dump);
+        writer.sendOSC (this.getAddress (deviceAddress, TAG_PAGE_SELECTED_NAME), selectedItem.isPresent () ? selectedItem.get () : "", dump);
     }
 
 
@@ -215,30 +215,30 @@ public class DeviceModule extends AbstractModule
         if (channel == null)
             return;
 
-        writer.sendOSC (deviceAddress + TAG_EXISTS, channel.doesExist (), dump);
-        writer.sendOSC (deviceAddress + TAG_ACTIVATED, channel.isActivated (), dump);
-        writer.sendOSC (deviceAddress + TAG_SELECTED, channel.isSelected (), dump);
-        writer.sendOSC (deviceAddress + TAG_NAME, channel.getName (), dump);
-        writer.sendOSC (deviceAddress + "volumeStr", channel.getVolumeStr (), dump);
-        writer.sendOSC (deviceAddress + TAG_VOLUME, channel.getVolume (), dump);
-        writer.sendOSC (deviceAddress + "panStr", channel.getPanStr (), dump);
-        writer.sendOSC (deviceAddress + "pan", channel.getPan (), dump);
-        writer.sendOSC (deviceAddress + "mute", channel.isMute (), dump);
-        writer.sendOSC (deviceAddress + "solo", channel.isSolo (), dump);
+        writer.sendOSC (this.getAddress (deviceAddress, TAG_EXISTS), channel.doesExist (), dump);
+        writer.sendOSC (this.getAddress (deviceAddress, TAG_ACTIVATED), channel.isActivated (), dump);
+        writer.sendOSC (this.getAddress (deviceAddress, TAG_SELECTED), channel.isSelected (), dump);
+        writer.sendOSC (this.getAddress (deviceAddress, TAG_NAME), channel.getName (), dump);
+        writer.sendOSC (this.getAddress (deviceAddress, "volumeStr"), channel.getVolumeStr (), dump);
+        writer.sendOSC (this.getAddress (deviceAddress, TAG_VOLUME), channel.getVolume (), dump);
+        writer.sendOSC (this.getAddress (deviceAddress, "panStr"), channel.getPanStr (), dump);
+        writer.sendOSC (this.getAddress (deviceAddress, "pan"), channel.getPan (), dump);
+        writer.sendOSC (this.getAddress (deviceAddress, "mute"), channel.isMute (), dump);
+        writer.sendOSC (this.getAddress (deviceAddress, "solo"), channel.isSolo (), dump);
 
         final ISendBank sendBank = channel.getSendBank ();
         for (int i = 0; i < sendBank.getPageSize (); i++)
-            this.flushParameterData (writer, deviceAddress + "send/" + (i + 1) + "/", sendBank.getItem (i), dump);
+            this.flushParameterData (writer, this.getIndexedAddress (this.getAddress (deviceAddress, "send/"), i + 1), sendBank.getItem (i), dump);
 
         if (this.configuration.isEnableVUMeters ())
-            writer.sendOSC (deviceAddress + "vu", channel.getVu (), dump);
+            writer.sendOSC (this.getAddress (deviceAddress, "vu"), channel.getVu (), dump);
 
         final ColorEx color = channel.getColor ();
-        writer.sendOSCColor (deviceAddress + TAG_COLOR, color.getRed (), color.getGreen (), color.getBlue (), dump);
+        writer.sendOSCColor (this.getAddress (deviceAddress, TAG_COLOR), color.getRed (), color.getGreen (), color.getBlue (), dump);
     }
 
 
-    private void parseCursorDeviceValue (final ICursorDevice cursorDevice, final LinkedList<String> path, final Object value) throws UnknownCommandException, MissingCommandException, IllegalParameterException
+    private void parseCursorDeviceValue (final ICursorDevice cursorDevice, final OSCPath path, final Object value) throws UnknownCommandException, MissingCommandException, IllegalParameterException
     {
         final String command = getSubCommand (path);
         switch (command)
@@ -300,14 +300,14 @@ public class DeviceModule extends AbstractModule
                 break;
 
             default:
-                path.add (0, command);
+                path.addFirst (command);
                 this.parseDeviceValue (cursorDevice, path, value);
                 break;
         }
     }
 
 
-    private void parseDeviceValue (final ISpecificDevice device, final LinkedList<String> path, final Object value) throws UnknownCommandException, MissingCommandException, IllegalParameterException
+    private void parseDeviceValue (final ISpecificDevice device, final OSCPath path, final Object value) throws UnknownCommandException, MissingCommandException, IllegalParameterException
     {
         final IParameterBank parameterBank = device.getParameterBank ();
         final IParameterPageBank parameterPageBank = parameterBank.getPageBank ();
@@ -429,7 +429,7 @@ public class DeviceModule extends AbstractModule
     }
 
 
-    private boolean parseEqValue (final IEqualizerDevice equalizerDevice, final LinkedList<String> path, final Object value) throws MissingCommandException, UnknownCommandException, IllegalParameterException
+    private boolean parseEqValue (final IEqualizerDevice equalizerDevice, final OSCPath path, final Object value) throws MissingCommandException, UnknownCommandException, IllegalParameterException
     {
         final String command = getSubCommand (path);
         switch (command)
@@ -494,13 +494,13 @@ public class DeviceModule extends AbstractModule
 
             default:
                 // Let this be handled by the normal device parser
-                path.add (0, command);
+                path.addFirst (command);
                 return false;
         }
     }
 
 
-    private void parseLayerOrDrumpad (final ISpecificDevice device, final LinkedList<String> path, final Object value) throws MissingCommandException, UnknownCommandException, IllegalParameterException
+    private void parseLayerOrDrumpad (final ISpecificDevice device, final OSCPath path, final Object value) throws MissingCommandException, UnknownCommandException, IllegalParameterException
     {
         final ILayerBank layerBank = device.getLayerBank ();
 
@@ -558,7 +558,7 @@ public class DeviceModule extends AbstractModule
     }
 
 
-    private void parseDeviceLayerValue (final ISpecificDevice cursorDevice, final int layerIndex, final LinkedList<String> path, final Object value) throws UnknownCommandException, IllegalParameterException, MissingCommandException
+    private void parseDeviceLayerValue (final ISpecificDevice cursorDevice, final int layerIndex, final OSCPath path, final Object value) throws UnknownCommandException, IllegalParameterException, MissingCommandException
     {
         final String command = getSubCommand (path);
         final ILayerBank layerBank = cursorDevice.getLayerBank ();
@@ -621,7 +621,7 @@ public class DeviceModule extends AbstractModule
                 break;
 
             case "send":
-                final int sendNo = Integer.parseInt (path.removeFirst ()) - 1;
+                final int sendNo = path.removeFirstNumber () - 1;
                 if (path.isEmpty ())
                     return;
 
@@ -655,7 +655,7 @@ public class DeviceModule extends AbstractModule
     }
 
 
-    private static void parseFXParamValue (final IParameter param, final LinkedList<String> path, final Object value) throws MissingCommandException, IllegalParameterException, UnknownCommandException
+    private static void parseFXParamValue (final IParameter param, final OSCPath path, final Object value) throws MissingCommandException, IllegalParameterException, UnknownCommandException
     {
         final String command = getSubCommand (path);
         switch (command)
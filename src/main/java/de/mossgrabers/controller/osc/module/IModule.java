@@ -7,8 +7,7 @@ package de.mossgrabers.controller.osc.module;
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
 import de.mossgrabers.controller.osc.exception.UnknownCommandException;
-
-import java.util.LinkedList;
+import de.mossgrabers.controller.osc.protocol.OSCPath;
 
 
 /**
@@ -36,7 +35,7 @@ public interface IModule
      * @throws UnknownCommandException Unknown command
      * @throws MissingCommandException Missing sub-command
      */
-    void execute (String command, LinkedList<String> path, Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException;
+    void execute (String command, OSCPath path, Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException;
 
 
     /**
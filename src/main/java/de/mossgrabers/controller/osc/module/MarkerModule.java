@@ -7,6 +7,7 @@ package de.mossgrabers.controller.osc.module;
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
 import de.mossgrabers.controller.osc.exception.UnknownCommandException;
+import de.mossgrabers.controller.osc.protocol.OSCPath;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
@@ -14,8 +15,6 @@ import de.mossgrabers.framework.daw.data.IMarker;
 import de.mossgrabers.framework.daw.data.bank.IMarkerBank;
 import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
 
-import java.util.LinkedList;
-
 
 /**
  * All marker related commands.
@@ -50,7 +49,7 @@ public class MarkerModule extends AbstractModule
 
     /** {@inheritDoc} */
     @Override
-    public void execute (final String command, final LinkedList<String> path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
+    public void execute (final String command, final OSCPath path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
     {
         if (!"marker".equals (command))
             throw new UnknownCommandException (command);
@@ -96,12 +95,12 @@ public class MarkerModule extends AbstractModule
         final IMarkerBank markerBank = this.model.getMarkerBank ();
         for (int i = 0; i < markerBank.getPageSize (); i++)
         {
-            final String markerAddress = "/marker/" + (i + 1) + "/";
+            final String markerAddress = this.getIndexedAddress ("/marker/", i + 1);
             final IMarker marker = markerBank.getItem (i);
-            this.writer.sendOSC (markerAddress + "exists", marker.doesExist (), dump);
-            this.writer.sendOSC (markerAddress + TAG_NAME, marker.getName (), dump);
+            this.writer.sendOSC (this.getAddress (markerAddress, "exists"), marker.doesExist (), dump);
+            this.writer.sendOSC (this.getAddress (markerAddress, TAG_NAME), marker.getName (), dump);
             final ColorEx color = marker.getColor ();
-            this.writer.sendOSCColor (markerAddress + "color", color.getRed (), color.getGreen (), color.getBlue (), dump);
+            this.writer.sendOSCColor (this.getAddress (markerAddress, "color"), color.getRed (), color.getGreen (), color.getBlue (), dump);
         }
     }
 }
\ No newline at end of file
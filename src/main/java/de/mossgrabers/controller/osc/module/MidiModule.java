@@ -8,6 +8,7 @@ import de.mossgrabers.controller.osc.OSCConfiguration;
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
 import de.mossgrabers.controller.osc.exception.UnknownCommandException;
+import de.mossgrabers.controller.osc.protocol.OSCPath;
 import de.mossgrabers.framework.controller.IControlSurface;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.controller.color.ColorManager;
@@ -24,8 +25,6 @@ import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
 import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.utils.KeyManager;
 
-import java.util.LinkedList;
-
 
 /**
  * All MIDI related commands.
@@ -71,7 +70,7 @@ public class MidiModule extends AbstractModule
 
     /** {@inheritDoc} */
     @Override
-    public void execute (final String command, final LinkedList<String> path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
+    public void execute (final String command, final OSCPath path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
     {
         if ("vkb_midi".equals (command))
             this.parseMidi (path, value);
@@ -88,7 +87,7 @@ public class MidiModule extends AbstractModule
         for (int i = 0; i < 127; i++)
         {
             final double [] color = this.getNoteColor (i).toDoubleRGB ();
-            this.writer.sendOSCColor (noteAddress + i + "/color", color[0], color[1], color[2], dump);
+            this.writer.sendOSCColor (this.getAddress (this.getIndexedAddress (noteAddress, i), TAG_COLOR), color[0], color[1], color[2], dump);
         }
 
         // Flush note repeat
@@ -98,9 +97,9 @@ public class MidiModule extends AbstractModule
         final INoteRepeat noteRepeat = noteInput.getNoteRepeat ();
         final String noteRepeatAddress = "/vkb_midi/noterepeat/";
 
-        this.writer.sendOSC (noteRepeatAddress + "isActive", noteRepeat.isActive (), dump);
-        this.writer.sendOSC (noteRepeatAddress + "period", Resolution.getNameAt (Resolution.getMatch (noteRepeat.getPeriod ())), dump);
-        this.writer.sendOSC (noteRepeatAddress + "length", Resolution.getNameAt (Resolution.getMatch (noteRepeat.getNoteLength ())), dump);
+        this.writer.sendOSC (this.getAddress (noteRepeatAddress, "isActive"), noteRepeat.isActive (), dump);
+        this.writer.sendOSC (this.getAddress (noteRepeatAddress, "period"), Resolution.getNameAt (Resolution.getMatch (noteRepeat.getPeriod ())), dump);
+        this.writer.sendOSC (this.getAddress (noteRepeatAddress, "length"), Resolution.getNameAt (Resolution.getMatch (noteRepeat.getNoteLength ())), dump);
     }
 
 
@@ -113,7 +112,7 @@ public class MidiModule extends AbstractModule
      * @throws UnknownCommandException Unknown sub-command
      * @throws IllegalParameterException Added an illegal parameter
      */
-    private void parseMidi (final LinkedList<String> path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
+    private void parseMidi (final OSCPath path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
     {
         final OSCConfiguration conf = this.surface.getConfiguration ();
 
@@ -225,7 +224,7 @@ public class MidiModule extends AbstractModule
                     this.host.println ("Missing MIDI CC value.");
                     return;
                 }
-                final int cc = Integer.parseInt (path.removeFirst ());
+                final int cc = path.removeFirstNumber ();
                 input.sendRawMidiEvent (MidiConstants.CMD_CC + midiChannel, cc, toInteger (value));
                 break;
 
@@ -236,7 +235,7 @@ public class MidiModule extends AbstractModule
                     input.sendRawMidiEvent (MidiConstants.CMD_CHANNEL_AFTERTOUCH + midiChannel, 0, numValue);
                     return;
                 }
-                final int note = Integer.parseInt (path.removeFirst ());
+                final int note = path.removeFirstNumber ();
                 input.sendRawMidiEvent (MidiConstants.CMD_POLY_AFTERTOUCH + midiChannel, this.surface.getKeyTranslationTable ()[note], numValue);
                 break;
 
@@ -302,7 +301,7 @@ public class MidiModule extends AbstractModule
      * @throws UnknownCommandException Unknown sub-command
      * @throws IllegalParameterException Added an illegal parameter
      */
-    private void parseNoteRepeat (final LinkedList<String> path, final Object value) throws MissingCommandException, UnknownCommandException, IllegalParameterException
+    private void parseNoteRepeat (final OSCPath path, final Object value) throws MissingCommandException, UnknownCommandException, IllegalParameterException
     {
         final INoteInput noteInput = this.surface.getMidiInput ().getDefaultNoteInput ();
         if (noteInput == null)
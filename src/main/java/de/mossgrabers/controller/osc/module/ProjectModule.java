@@ -4,12 +4,12 @@
 
 package de.mossgrabers.controller.osc.module;
 
-import java.util.LinkedList;
 import java.util.Optional;
 
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
 import de.mossgrabers.controller.osc.exception.UnknownCommandException;
+import de.mossgrabers.controller.osc.protocol.OSCPath;
 import de.mossgrabers.framework.daw.IApplication;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
@@ -53,7 +53,7 @@ public class ProjectModule extends AbstractModule
 
     /** {@inheritDoc} */
     @Override
-    public void execute (final String command, final LinkedList<String> path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
+    public void execute (final String command, final OSCPath path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
     {
         if (!"project".equals (command))
             throw new UnknownCommandException (command);
@@ -96,7 +96,7 @@ public class ProjectModule extends AbstractModule
     }
 
 
-    private void parseParamValue (final LinkedList<String> path, final Object value) throws UnknownCommandException, MissingCommandException, IllegalParameterException
+    private void parseParamValue (final OSCPath path, final Object value) throws UnknownCommandException, MissingCommandException, IllegalParameterException
     {
         final IParameterBank parameterBank = this.model.getProject ().getParameterBank ();
         final String subCommand = getSubCommand (path);
@@ -141,7 +141,7 @@ public class ProjectModule extends AbstractModule
     }
 
 
-    private void parsePageValue (final LinkedList<String> path, final Object value) throws UnknownCommandException, MissingCommandException, IllegalParameterException
+    private void parsePageValue (final OSCPath path, final Object value) throws UnknownCommandException, MissingCommandException, IllegalParameterException
     {
         final IParameterBank parameterBank = this.model.getProject ().getParameterBank ();
         final IParameterPageBank parameterPageBank = parameterBank.getPageBank ();
@@ -165,7 +165,7 @@ public class ProjectModule extends AbstractModule
     }
 
 
-    private static void parseFXParamValue (final IParameter param, final LinkedList<String> path, final Object value) throws MissingCommandException, IllegalParameterException, UnknownCommandException
+    private static void parseFXParamValue (final IParameter param, final OSCPath path, final Object value) throws MissingCommandException, IllegalParameterException, UnknownCommandException
     {
         final String command = getSubCommand (path);
         switch (command)
@@ -204,7 +204,7 @@ public class ProjectModule extends AbstractModule
         for (int i = 0; i < parameterBank.getPageSize (); i++)
         {
             final int oneplus = i + 1;
-            this.flushParameterData (this.writer, paramAddress + oneplus + "/", parameterBank.getItem (i), dump);
+            this.flushParameterData (this.writer, this.getIndexedAddress (paramAddress, oneplus), parameterBank.getItem (i), dump);
         }
 
         final IParameterPageBank parameterPageBank = parameterBank.getPageBank ();
@@ -213,13 +213,13 @@ public class ProjectModule extends AbstractModule
         {
             final int oneplus = i + 1;
             final String pageName = parameterPageBank.getItem (i);
-            final String pageAddress = "/project/page/" + oneplus + "/";
-            this.writer.sendOSC (pageAddress + TAG_EXISTS, !pageName.isBlank (), dump);
+            final String pageAddress = this.getIndexedAddress ("/project/page/", oneplus);
+            this.writer.sendOSC (this.getAddress (pageAddress, TAG_EXISTS), !pageName.isBlank (), dump);
             this.writer.sendOSC (pageAddress, pageName, dump);
-            this.writer.sendOSC (pageAddress + TAG_NAME, pageName, dump);
-            this.writer.sendOSC (pageAddress + TAG_SELECTED, selectedParameterPage == i, dump);
+            this.writer.sendOSC (this.getAddress (pageAddress, TAG_NAME), pageName, dump);
+            this.writer.sendOSC (this.getAddress (pageAddress, TAG_SELECTED), selectedParameterPage == i, dump);
         }
         final Optional<String> selectedItem = parameterPageBank.getSelectedItem ();
-        this.writer.sendOSC ("/project/page/selected/" + TAG_NAME, selectedItem.isPresent () ? selectedItem.get () : "", dump);
+        this.writer.sendOSC (this.getAddress ("/project/", TAG_PAGE_SELECTED_NAME), selectedItem.isPresent () ? selectedItem.get () : "", dump);
     }
 }
@@ -4,12 +4,12 @@
 
 package de.mossgrabers.controller.osc.module;
 
-import java.util.LinkedList;
 import java.util.Optional;
 
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
 import de.mossgrabers.controller.osc.exception.UnknownCommandException;
+import de.mossgrabers.controller.osc.protocol.OSCPath;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
@@ -51,7 +51,7 @@ public class SceneModule extends AbstractModule
 
     /** {@inheritDoc} */
     @Override
-    public void execute (final String command, final LinkedList<String> path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
+    public void execute (final String command, final OSCPath path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
     {
         if (!"scene".equals (command))
             throw new UnknownCommandException (command);
@@ -151,15 +151,15 @@ public class SceneModule extends AbstractModule
         for (int i = 0; i < sceneBank.getPageSize (); i++)
         {
             final IScene scene = sceneBank.getItem (i);
-            final String sceneAddress = "/scene/" + (i + 1) + "/";
-            this.writer.sendOSC (sceneAddress + TAG_EXISTS, scene.doesExist (), dump);
-            this.writer.sendOSC (sceneAddress + TAG_NAME, scene.getName (), dump);
-            this.writer.sendOSC (sceneAddress + TAG_SELECTED, scene.isSelected (), dump);
+            final String sceneAddress = this.getIndexedAddress ("/scene/", i + 1);
+            this.writer.sendOSC (this.getAddress (sceneAddress, TAG_EXISTS), scene.doesExist (), dump);
+            this.writer.sendOSC (this.getAddress (sceneAddress, TAG_NAME), scene.getName (), dump);
+            this.writer.sendOSC (this.getAddress (sceneAddress, TAG_SELECTED), scene.isSelected (), dump);
 
             ColorEx color = scene.getColor ();
             if (color == null)
                 color = ColorEx.BLACK;
-            this.writer.sendOSCColor (sceneAddress + TAG_COLOR, color.getRed (), color.getGreen (), color.getBlue (), dump);
+            this.writer.sendOSCColor (this.getAddress (sceneAddress, TAG_COLOR), color.getRed (), color.getGreen (), color.getBlue (), dump);
         }
     }
 }
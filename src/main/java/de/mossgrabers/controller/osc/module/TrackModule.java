@@ -4,14 +4,16 @@
 
 package de.mossgrabers.controller.osc.module;
 
-import java.util.LinkedList;
+import java.util.EnumMap;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 
 import de.mossgrabers.controller.osc.OSCConfiguration;
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
 import de.mossgrabers.controller.osc.exception.UnknownCommandException;
+import de.mossgrabers.controller.osc.protocol.OSCPath;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.daw.IApplication;
 import de.mossgrabers.framework.daw.IHost;
@@ -38,7 +40,15 @@ import de.mossgrabers.framework.parameter.IParameter;
  */
 public class TrackModule extends AbstractModule
 {
-    private final OSCConfiguration configuration;
+    private static final Map<ChannelType, String> CHANNEL_TYPE_NAMES = new EnumMap<> (ChannelType.class);
+
+    static
+    {
+        for (final ChannelType type: ChannelType.values ())
+            CHANNEL_TYPE_NAMES.put (type, type.name ().toLowerCase (Locale.US));
+    }
+
+    private final OSCConfiguration                configuration;
 
 
     /**
@@ -71,7 +81,7 @@ public class TrackModule extends AbstractModule
 
     /** {@inheritDoc} */
     @Override
-    public void execute (final String command, final LinkedList<String> path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
+    public void execute (final String command, final OSCPath path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
     {
         switch (command)
         {
@@ -104,7 +114,7 @@ public class TrackModule extends AbstractModule
     {
         final ITrackBank trackBank = this.model.getCurrentTrackBank ();
         for (int i = 0; i < trackBank.getPageSize (); i++)
-            this.flushTrack (this.writer, "/track/" + (i + 1) + "/", trackBank.getItem (i), dump);
+            this.flushTrack (this.writer, this.getIndexedAddress ("/track/", i + 1), trackBank.getItem (i), dump);
         this.flushTrack (this.writer, "/master/", this.model.getMasterTrack (), dump);
         final ICursorTrack cursorTrack = this.model.getCursorTrack ();
         this.flushTrack (this.writer, "/track/selected/", cursorTrack, dump);
@@ -117,7 +127,7 @@ public class TrackModule extends AbstractModule
         for (int i = 0; i < parameterBank.getPageSize (); i++)
         {
             final int oneplus = i + 1;
-            this.flushParameterData (this.writer, paramAddress + oneplus + "/", parameterBank.getItem (i), dump);
+            this.flushParameterData (this.writer, this.getIndexedAddress (paramAddress, oneplus), parameterBank.getItem (i), dump);
         }
 
         final IParameterPageBank parameterPageBank = parameterBank.getPageBank ();
@@ -126,14 +136,14 @@ public class TrackModule extends AbstractModule
         {
             final int oneplus = i + 1;
             final String pageName = parameterPageBank.getItem (i);
-            final String pageAddress = "/track/page/" + oneplus + "/";
-            this.writer.sendOSC (pageAddress + TAG_EXISTS, !pageName.isBlank (), dump);
+            final String pageAddress = this.getIndexedAddress ("/track/page/", oneplus);
+            this.writer.sendOSC (this.getAddress (pageAddress, TAG_EXISTS), !pageName.isBlank (), dump);
             this.writer.sendOSC (pageAddress, pageName, dump);
-            this.writer.sendOSC (pageAddress + TAG_NAME, pageName, dump);
-            this.writer.sendOSC (pageAddress + TAG_SELECTED, selectedParameterPage == i, dump);
+            this.writer.sendOSC (this.getAddress (pageAddress, TAG_NAME), pageName, dump);
+            this.writer.sendOSC (this.getAddress (pageAddress, TAG_SELECTED), selectedParameterPage == i, dump);
         }
         final Optional<String> selectedItem = parameterPageBank.getSelectedItem ();
-        this.writer.sendOSC ("/track/page/selected/" + TAG_NAME, selectedItem.isPresent () ? selectedItem.get () : "", dump);
+        this.writer.sendOSC (this.getAddress ("/track/", TAG_PAGE_SELECTED_NAME), selectedItem.isPresent () ? selectedItem.get () : "", dump);
     }
 
 
@@ -147,66 +157,66 @@ public class TrackModule extends AbstractModule
      */
     private void flushTrack (final IOpenSoundControlWriter writer, final String trackAddress, final ITrack track, final boolean dump)
     {
-        writer.sendOSC (trackAddress + TAG_EXISTS, track.doesExist (), dump);
+        writer.sendOSC (this.getAddress (trackAddress, TAG_EXISTS), track.doesExist (), dump);
         final ChannelType type = track.getType ();
-        writer.sendOSC (trackAddress + "type", type == null ? null : type.name ().toLowerCase (Locale.US), dump);
-        writer.sendOSC (trackAddress + TAG_ACTIVATED, track.isActivated (), dump);
-        writer.sendOSC (trackAddress + TAG_SELECTED, track.isSelected (), dump);
-        writer.sendOSC (trackAddress + "isGroup", track.isGroup (), dump);
-        writer.sendOSC (trackAddress + TAG_NAME, track.getName (), dump);
-        writer.sendOSC (trackAddress + "volumeStr", track.getVolumeStr (), dump);
-        writer.sendOSC (trackAddress + TAG_VOLUME, track.getVolume (), dump);
-        writer.sendOSC (trackAddress + "panStr", track.getPanStr (), dump);
-        writer.sendOSC (trackAddress + "pan", track.getPan (), dump);
-        writer.sendOSC (trackAddress + "mute", track.isMute (), dump);
-        writer.sendOSC (trackAddress + "solo", track.isSolo (), dump);
-        writer.sendOSC (trackAddress + "recarm", track.isRecArm (), dump);
-        writer.sendOSC (trackAddress + "monitor", track.isMonitor (), dump);
-        writer.sendOSC (trackAddress + "autoMonitor", track.isAutoMonitor (), dump);
-        writer.sendOSC (trackAddress + "canHoldNotes", track.canHoldNotes (), dump);
-        writer.sendOSC (trackAddress + "canHoldAudioData", track.canHoldAudioData (), dump);
-        writer.sendOSC (trackAddress + "position", track.getPosition (), dump);
+        writer.sendOSC (this.getAddress (trackAddress, "type"), type == null ? null : CHANNEL_TYPE_NAMES.get (type), dump);
+        writer.sendOSC (this.getAddress (trackAddress, TAG_ACTIVATED), track.isActivated (), dump);
+        writer.sendOSC (this.getAddress (trackAddress, TAG_SELECTED), track.isSelected (), dump);
+        writer.sendOSC (this.getAddress (trackAddress, "isGroup"), track.isGroup (), dump);
+        writer.sendOSC (this.getAddress (trackAddress, TAG_NAME), track.getName (), dump);
+        writer.sendOSC (this.getAddress (trackAddress, "volumeStr"), track.getVolumeStr (), dump);
+        writer.sendOSC (this.getAddress (trackAddress, TAG_VOLUME), track.getVolume (), dump);
+        writer.sendOSC (this.getAddress (trackAddress, "panStr"), track.getPanStr (), dump);
+        writer.sendOSC (this.getAddress (trackAddress, "pan"), track.getPan (), dump);
+        writer.sendOSC (this.getAddress (trackAddress, "mute"), track.isMute (), dump);
+        writer.sendOSC (this.getAddress (trackAddress, "solo"), track.isSolo (), dump);
+        writer.sendOSC (this.getAddress (trackAddress, "recarm"), track.isRecArm (), dump);
+        writer.sendOSC (this.getAddress (trackAddress, "monitor"), track.isMonitor (), dump);
+        writer.sendOSC (this.getAddress (trackAddress, "autoMonitor"), track.isAutoMonitor (), dump);
+        writer.sendOSC (this.getAddress (trackAddress, "canHoldNotes"), track.canHoldNotes (), dump);
+        writer.sendOSC (this.getAddress (trackAddress, "canHoldAudioData"), track.canHoldAudioData (), dump);
+        writer.sendOSC (this.getAddress (trackAddress, "position"), track.getPosition (), dump);
 
         if (track instanceof final ICursorTrack cursorTrack)
-            writer.sendOSC (trackAddress + "pinned", cursorTrack.isPinned (), dump);
+            writer.sendOSC (this.getAddress (trackAddress, "pinned"), cursorTrack.isPinned (), dump);
 
         final ISendBank sendBank = track.getSendBank ();
         for (int i = 0; i < sendBank.getPageSize (); i++)
-            this.flushParameterData (writer, trackAddress + "send/" + (i + 1) + "/", sendBank.getItem (i), dump);
+            this.flushParameterData (writer, this.getIndexedAddress (this.getAddress (trackAddress, "send/"), i + 1), sendBank.getItem (i), dump);
 
         final ISlotBank slotBank = track.getSlotBank ();
         for (int i = 0; i < slotBank.getPageSize (); i++)
         {
             final ISlot slot = slotBank.getItem (i);
-            final String clipAddress = trackAddress + "clip/" + (i + 1) + "/";
-            writer.sendOSC (clipAddress + TAG_NAME, slot.getName (), dump);
-            writer.sendOSC (clipAddress + "isSelected", slot.isSelected (), dump);
-            writer.sendOSC (clipAddress + "hasContent", slot.hasContent (), dump);
-            writer.sendOSC (clipAddress + "isPlaying", slot.isPlaying (), dump);
-            writer.sendOSC (clipAddress + "isRecording", slot.isRecording (), dump);
-            writer.sendOSC (clipAddress + "isPlayingQueued", slot.isPlayingQueued (), dump);
-            writer.sendOSC (clipAddress + "isRecordingQueued", slot.isRecordingQueued (), dump);
-            writer.sendOSC (clipAddress + "isStopQueued", slot.isStopQueued (), dump);
+            final String clipAddress = this.getIndexedAddress (this.getAddress (trackAddress, "clip/"), i + 1);
+            writer.sendOSC (this.getAddress (clipAddress, TAG_NAME), slot.getName (), dump);
+            writer.sendOSC (this.getAddress (clipAddress, "isSelected"), slot.isSelected (), dump);
+            writer.sendOSC (this.getAddress (clipAddress, "hasContent"), slot.hasContent (), dump);
+            writer.sendOSC (this.getAddress (clipAddress, "isPlaying"), slot.isPlaying (), dump);
+            writer.sendOSC (this.getAddress (clipAddress, "isRecording"), slot.isRecording (), dump);
+            writer.sendOSC (this.getAddress (clipAddress, "isPlayingQueued"), slot.isPlayingQueued (), dump);
+            writer.sendOSC (this.getAddress (clipAddress, "isRecordingQueued"), slot.isRecordingQueued (), dump);
+            writer.sendOSC (this.getAddress (clipAddress, "isStopQueued"), slot.isStopQueued (), dump);
 
             final ColorEx color = slot.getColor ();
-            writer.sendOSCColor (clipAddress + TAG_COLOR, color.getRed (), color.getGreen (), color.getBlue (), dump);
+            writer.sendOSCColor (this.getAddress (clipAddress, TAG_COLOR), color.getRed (), color.getGreen (), color.getBlue (), dump);
         }
 
         final ColorEx color = track.getColor ();
-        writer.sendOSCColor (trackAddress + TAG_COLOR, color.getRed (), color.getGreen (), color.getBlue (), dump);
+        writer.sendOSCColor (this.getAddress (trackAddress, TAG_COLOR), color.getRed (), color.getGreen (), color.getBlue (), dump);
 
         final String crossfadeMode = track.getCrossfadeParameter ().getDisplayedValue ();
-        writer.sendOSC (trackAddress + "crossfadeMode/A", "A".equals (crossfadeMode), dump);
-        writer.sendOSC (trackAddress + "crossfadeMode/B", "B".equals (crossfadeMode), dump);
-        writer.sendOSC (trackAddress + "crossfadeMode/AB", "AB".equals (crossfadeMode), dump);
+        writer.sendOSC (this.getAddress (trackAddress, "crossfadeMode/A"), "A".equals (crossfadeMode), dump);
+        writer.sendOSC (this.getAddress (trackAddress, "crossfadeMode/B"), "B".equals (crossfadeMode), dump);
+        writer.sendOSC (this.getAddress (trackAddress, "crossfadeMode/AB"), "AB".equals (crossfadeMode), dump);
 
-        writer.sendOSC (trackAddress + "recordQuantization", track.getRecordQuantizationGrid ().getValue (), dump);
+        writer.sendOSC (this.getAddress (trackAddress, "recordQuantization"), track.getRecordQuantizationGrid ().getValue (), dump);
 
-        writer.sendOSC (trackAddress + "vu", this.configuration.isEnableVUMeters () ? track.getVu () : 0, dump);
+        writer.sendOSC (this.getAddress (trackAddress, "vu"), this.configuration.isEnableVUMeters () ? track.getVu () : 0, dump);
     }
 
 
-    private void parseTrackCommands (final String command, final LinkedList<String> path, final Object value) throws UnknownCommandException, MissingCommandException, IllegalParameterException
+    private void parseTrackCommands (final String command, final OSCPath path, final Object value) throws UnknownCommandException, MissingCommandException, IllegalParameterException
     {
         final ITrackBank tb = this.model.getCurrentTrackBank ();
         switch (command)
@@ -225,7 +235,7 @@ public class TrackModule extends AbstractModule
                             tb.getItem (i).setPanIndication (isTrue);
                         break;
                     case "send":
-                        final int sendIndex = Integer.parseInt (path.get (0)) - 1;
+                        final int sendIndex = path.getNumber (0) - 1;
                         for (int i = 0; i < tb.getPageSize (); i++)
                             tb.getItem (i).getSendBank ().getItem (sendIndex).setIndication (isTrue);
                         break;
@@ -351,7 +361,7 @@ public class TrackModule extends AbstractModule
     }
 
 
-    private void parseTrackValue (final ITrack track, final LinkedList<String> path, final Object value) throws IllegalParameterException, MissingCommandException, UnknownCommandException
+    private void parseTrackValue (final ITrack track, final OSCPath path, final Object value) throws IllegalParameterException, MissingCommandException, UnknownCommandException
     {
         final String command = getSubCommand (path);
         switch (command)
@@ -455,7 +465,7 @@ public class TrackModule extends AbstractModule
                 break;
 
             case "send":
-                final int sendNo = Integer.parseInt (path.removeFirst ()) - 1;
+                final int sendNo = path.removeFirstNumber () - 1;
                 parseSendValue (track, sendNo, path, value);
                 break;
 
@@ -498,7 +508,7 @@ public class TrackModule extends AbstractModule
     }
 
 
-    private void parseClipValue (final ITrack track, final LinkedList<String> path, final Object value) throws UnknownCommandException, MissingCommandException, IllegalParameterException
+    private void parseClipValue (final ITrack track, final OSCPath path, final Object value) throws UnknownCommandException, MissingCommandException, IllegalParameterException
     {
         final String command = getSubCommand (path);
 
@@ -559,7 +569,7 @@ public class TrackModule extends AbstractModule
     }
 
 
-    private static void parseSendValue (final ITrack track, final int sendIndex, final LinkedList<String> path, final Object value) throws UnknownCommandException, MissingCommandException, IllegalParameterException
+    private static void parseSendValue (final ITrack track, final int sendIndex, final OSCPath path, final Object value) throws UnknownCommandException, MissingCommandException, IllegalParameterException
     {
         final ISend send = track.getSendBank ().getItem (sendIndex);
         if (send == null)
@@ -588,7 +598,7 @@ public class TrackModule extends AbstractModule
     }
 
 
-    private void parseParamValue (final LinkedList<String> path, final Object value) throws UnknownCommandException, MissingCommandException, IllegalParameterException
+    private void parseParamValue (final OSCPath path, final Object value) throws UnknownCommandException, MissingCommandException, IllegalParameterException
     {
         final IParameterBank parameterBank = this.model.getCursorTrack ().getParameterBank ();
         final String subCommand = getSubCommand (path);
@@ -633,7 +643,7 @@ public class TrackModule extends AbstractModule
     }
 
 
-    private void parsePageValue (final LinkedList<String> path, final Object value) throws UnknownCommandException, MissingCommandException, IllegalParameterException
+    private void parsePageValue (final OSCPath path, final Object value) throws UnknownCommandException, MissingCommandException, IllegalParameterException
     {
         final IParameterBank parameterBank = this.model.getCursorTrack ().getParameterBank ();
         final IParameterPageBank parameterPageBank = parameterBank.getPageBank ();
@@ -657,7 +667,7 @@ public class TrackModule extends AbstractModule
     }
 
 
-    private static void parseFXParamValue (final IParameter param, final LinkedList<String> path, final Object value) throws MissingCommandException, IllegalParameterException, UnknownCommandException
+    private static void parseFXParamValue (final IParameter param, final OSCPath path, final Object value) throws MissingCommandException, IllegalParameterException, UnknownCommandException
     {
         final String command = getSubCommand (path);
         switch (command)
@@ -0,0 +1,203 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2026
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.osc.protocol;
+
+import de.mossgrabers.controller.osc.module.IModule;
+
+
+/**
+ * A trie of the parts of all OSC addresses which have been received. The first level contains the
+ * commands to which the modules are registered. The parts of an address are looked up in the trie
+ * without creating sub-strings, therefore parsing an address which has already been received before
+ * does not allocate any objects. Numbers (like the track number in /track/1/volume) are captured
+ * and all numbers share one child node, which keeps the trie small (all /track/{n}/volume addresses
+ * end in the same node).
+ *
+ * @author Jürgen Moßgraber
+ */
+class OSCAddressTrie
+{
+    /** Protects against unlimited growth, unknown parts are not stored after the limit is reached. */
+    private static final int       MAX_NODES      = 4096;
+    /** The string representation of small numbers, which are looked up instead of created. */
+    private static final String [] NUMBER_STRINGS = new String [1024];
+
+    static
+    {
+        for (int i = 0; i < NUMBER_STRINGS.length; i++)
+            NUMBER_STRINGS[i] = Integer.toString (i);
+    }
+
+    private final Node root     = new Node ("");
+    private int        numNodes = 0;
+
+
+    /**
+     * Register a module for a command.
+     *
+     * @param command The command, which is the first part of an address
+     * @param module The module which handles all addresses starting with the command
+     */
+    public void register (final String command, final IModule module)
+    {
+        Node node = this.root.findChild (command, 0, command.length ());
+        if (node == null)
+        {
+            node = new Node (command);
+            this.root.addChild (node);
+            this.numNodes++;
+        }
+        node.module = module;
+    }
+
+
+    /**
+     * Split an OSC address into its parts. Like String.split the part in front of the first slash
+     * and empty parts at the end are dropped.
+     *
+     * @param address The address to parse
+     * @param path Where to store the parts
+     * @return The module registered for the first part of the address, null if none is registered
+     */
+    public IModule parse (final String address, final OSCPath path)
+    {
+        path.clear ();
+
+        int start = address.indexOf ('/') + 1;
+        if (start == 0)
+            return null;
+
+        final int length = address.length ();
+        Node node = this.root;
+        IModule module = null;
+        while (start <= length)
+        {
+            int end = address.indexOf ('/', start);
+            if (end < 0)
+                end = length;
+
+            final int number = parseNumber (address, start, end);
+            if (number >= 0)
+            {
+                node = this.getNumberChild (node);
+                path.add (number < NUMBER_STRINGS.length ? NUMBER_STRINGS[number] : address.substring (start, end), number);
+            }
+            else
+            {
+                node = this.getChild (node, address, start, end);
+                path.add (node.part, -1);
+            }
+
+            if (module == null)
+                module = node.module;
+            start = end + 1;
+        }
+
+        path.trimEmptyParts ();
+        return module;
+    }
+
+
+    private Node getChild (final Node parent, final String address, final int start, final int end)
+    {
+        final Node child = parent.findChild (address, start, end);
+        if (child != null)
+            return child;
+
+        final Node node = new Node (address.substring (start, end));
+        if (this.numNodes < MAX_NODES)
+        {
+            parent.addChild (node);
+            this.numNodes++;
+        }
+        return node;
+    }
+
+
+    private Node getNumberChild (final Node parent)
+    {
+        if (parent.numberChild != null)
+            return parent.numberChild;
+
+        final Node node = new Node ("");
+        if (this.numNodes < MAX_NODES)
+        {
+            parent.numberChild = node;
+            this.numNodes++;
+        }
+        return node;
+    }
+
+
+    /**
+     * Parse a part of the address as a number. Only numbers in their plain form (no sign, no
+     * leading zeros) are captured, all other parts are kept as they are.
+     *
+     * @param address The address
+     * @param start The start index of the part
+     * @param end The end index of the part (exclusive)
+     * @return The number or -1 if the part is not a plain number
+     */
+    private static int parseNumber (final String address, final int start, final int end)
+    {
+        final int length = end - start;
+        if (length == 0 || length > 9 || length > 1 && address.charAt (start) == '0')
+            return -1;
+
+        int number = 0;
+        for (int i = start; i < end; i++)
+        {
+            final char c = address.charAt (i);
+            if (c < '0' || c > '9')
+                return -1;
+            number = number * 10 + c - '0';
+        }
+        return number;
+    }
+
+
+    /**
+     * A node of the trie.
+     */
+    private static final class Node
+    {
+        private final String part;
+        private IModule      module;
+        private Node []      children    = new Node [0];
+        private Node         numberChild;
+
+
+        /**
+         * Constructor.
+         *
+         * @param part The part of the address
+         */
+        Node (final String part)
+        {
+            this.part = part;
+        }
+
+
+        Node findChild (final String address, final int start, final int end)
+        {
+            final int length = end - start;
+            for (final Node child: this.children)
+            {
+                if (child.part.length () == length && address.regionMatches (start, child.part, 0, length))
+                    return child;
+            }
+            return null;
+        }
+
+
+        void addChild (final Node child)
+        {
+            final Node [] newChildren = new Node [this.children.length + 1];
+            System.arraycopy (this.children, 0, newChildren, 0, this.children.length);
+            newChildren[this.children.length] = child;
+            this.children = newChildren;
+        }
+    }
+}
@@ -19,10 +19,6 @@ import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
 import de.mossgrabers.framework.utils.KeyManager;
 
 import java.util.Arrays;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.LinkedList;
-import java.util.Map;
 
 
 /**
@@ -32,8 +28,9 @@ import java.util.Map;
  */
 public class OSCParser extends AbstractOpenSoundControlParser
 {
-    private final OSCControlSurface    surface;
-    private final Map<String, IModule> modules = new HashMap<> ();
+    private final OSCControlSurface surface;
+    private final OSCAddressTrie    addressTrie = new OSCAddressTrie ();
+    private final OSCPath           path        = new OSCPath ();
 
 
     /**
@@ -64,11 +61,11 @@ public class OSCParser extends AbstractOpenSoundControlParser
     {
         this.logMessage (message);
 
-        final LinkedList<String> oscParts = parseAddress (message);
-        if (oscParts.isEmpty ())
+        final IModule module = this.addressTrie.parse (message.getAddress (), this.path);
+        if (this.path.isEmpty ())
             return;
 
-        final String command = oscParts.removeFirst ();
+        final String command = this.path.removeFirst ();
         if ("refresh".equals (command))
         {
             this.writer.flush (true);
@@ -78,13 +75,12 @@ public class OSCParser extends AbstractOpenSoundControlParser
         final Object [] values = message.getValues ();
         try
         {
-            final IModule module = this.modules.get (command);
             if (module == null)
                 throw new UnknownCommandException (command);
             if (values != null && values.length > 1)
-                module.execute (command, oscParts, values);
+                module.execute (command, this.path, values);
             else
-                module.execute (command, oscParts, values == null || values.length == 0 ? null : values[0]);
+                module.execute (command, this.path, values == null || values.length == 0 ? null : values[0]);
         }
         catch (final IllegalParameterException ex)
         {
@@ -101,23 +97,6 @@ public class OSCParser extends AbstractOpenSoundControlParser
     }
 
 
-    /**
-     * Parses the OSC message into separate parts.
-     *
-     * @param message The message
-     * @return The split parts
-     */
-    private static LinkedList<String> parseAddress (final IOpenSoundControlMessage message)
-    {
-        final LinkedList<String> oscParts = new LinkedList<> ();
-        Collections.addAll (oscParts, message.getAddress ().split ("/"));
-
-        // Remove first empty element
-        oscParts.removeFirst ();
-        return oscParts;
-    }
-
-
     /**
      * Register a command module.
      *
@@ -125,6 +104,6 @@ public class OSCParser extends AbstractOpenSoundControlParser
      */
     public void registerModule (final IModule module)
     {
-        Arrays.asList (module.getSupportedCommands ()).forEach (command -> this.modules.put (command, module));
+        Arrays.asList (module.getSupportedCommands ()).forEach (command -> this.addressTrie.register (command, module));
     }
 }
\ No newline at end of file
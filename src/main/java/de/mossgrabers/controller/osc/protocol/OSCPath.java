@@ -0,0 +1,181 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2026
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.osc.protocol;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+
+/**
+ * The parts of an OSC address which are not yet processed. The parts are consumed from the front
+ * while the command is processed. The parser re-uses the same instance for all messages, therefore
+ * it must not be kept after the command has been executed.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class OSCPath
+{
+    private static final int NO_NUMBER = -1;
+
+    private String []        parts     = new String [8];
+    private int []           numbers   = new int [8];
+    private int              start;
+    private int              end;
+
+
+    /**
+     * Are there no more parts?
+     *
+     * @return True if all parts have been processed
+     */
+    public boolean isEmpty ()
+    {
+        return this.start == this.end;
+    }
+
+
+    /**
+     * Get a part without removing it.
+     *
+     * @param index The index of the part relative to the first unprocessed part
+     * @return The part
+     * @throws IndexOutOfBoundsException If there is no such part
+     */
+    public String get (final int index)
+    {
+        return this.parts[this.checkIndex (index)];
+    }
+
+
+    /**
+     * Get a part as a number without removing it.
+     *
+     * @param index The index of the part relative to the first unprocessed part
+     * @return The number
+     * @throws IndexOutOfBoundsException If there is no such part
+     * @throws NumberFormatException If the part is not a number
+     */
+    public int getNumber (final int index)
+    {
+        final int pos = this.checkIndex (index);
+        final int number = this.numbers[pos];
+        return number == NO_NUMBER ? Integer.parseInt (this.parts[pos]) : number;
+    }
+
+
+    /**
+     * Remove the first part.
+     *
+     * @return The removed part
+     * @throws NoSuchElementException If there are no more parts
+     */
+    public String removeFirst ()
+    {
+        if (this.isEmpty ())
+            throw new NoSuchElementException ();
+        return this.parts[this.start++];
+    }
+
+
+    /**
+     * Remove the first part as a number.
+     *
+     * @return The number
+     * @throws NoSuchElementException If there are no more parts
+     * @throws NumberFormatException If the part is not a number, the part is removed anyway
+     */
+    public int removeFirstNumber ()
+    {
+        if (this.isEmpty ())
+            throw new NoSuchElementException ();
+        final int pos = this.start++;
+        final int number = this.numbers[pos];
+        return number == NO_NUMBER ? Integer.parseInt (this.parts[pos]) : number;
+    }
+
+
+    /**
+     * Insert a part in front of all other parts, e.g. to put back an already removed part.
+     *
+     * @param part The part to insert
+     */
+    public void addFirst (final String part)
+    {
+        if (this.start == 0)
+        {
+            this.ensureCapacity (this.end + 1);
+            System.arraycopy (this.parts, 0, this.parts, 1, this.end);
+            System.arraycopy (this.numbers, 0, this.numbers, 1, this.end);
+            this.end++;
+        }
+        else
+            this.start--;
+
+        this.parts[this.start] = part;
+        this.numbers[this.start] = NO_NUMBER;
+    }
+
+
+    /**
+     * Remove all parts.
+     */
+    void clear ()
+    {
+        this.start = 0;
+        this.end = 0;
+    }
+
+
+    /**
+     * Add a part at the end.
+     *
+     * @param part The part
+     * @param number The value of the part if it is a number, otherwise -1
+     */
+    void add (final String part, final int number)
+    {
+        this.ensureCapacity (this.end + 1);
+        this.parts[this.end] = part;
+        this.numbers[this.end] = number;
+        this.end++;
+    }
+
+
+    /**
+     * Remove all empty parts at the end.
+     */
+    void trimEmptyParts ()
+    {
+        while (this.end > this.start && this.parts[this.end - 1].isEmpty ())
+            this.end--;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString ()
+    {
+        return String.join ("/", Arrays.asList (this.parts).subList (this.start, this.end));
+    }
+
+
+    private int checkIndex (final int index)
+    {
+        final int pos = this.start + index;
+        if (index < 0 || pos >= this.end)
+            throw new IndexOutOfBoundsException ("Index: " + index + ", Size: " + (this.end - this.start));
+        return pos;
+    }
+
+
+    private void ensureCapacity (final int capacity)
+    {
+        if (capacity <= this.parts.length)
+            return;
+        final int size = Math.max (capacity, this.parts.length * 2);
+        this.parts = Arrays.copyOf (this.parts, size);
+        this.numbers = Arrays.copyOf (this.numbers, size);
+    }
+}
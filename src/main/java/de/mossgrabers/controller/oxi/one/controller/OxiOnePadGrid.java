@@ -4,8 +4,7 @@
 
 package de.mossgrabers.controller.oxi.one.controller;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
+import java.util.Arrays;
 
 import de.mossgrabers.controller.oxi.one.OxiOneConfiguration;
 import de.mossgrabers.framework.controller.ButtonID;
@@ -13,6 +12,7 @@ import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.grid.BlinkingPadGrid;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 
 
 /**
@@ -22,7 +22,7 @@ import de.mossgrabers.framework.daw.midi.IMidiOutput;
  */
 public class OxiOnePadGrid extends BlinkingPadGrid
 {
-    private static final int []         COLOR_INDICES =
+    private static final int []       COLOR_INDICES          =
     {
         1,
         9,
@@ -30,10 +30,14 @@ public class OxiOnePadGrid extends BlinkingPadGrid
         255
     };
 
-    private final byte []               header        = new byte [7];
-    private final ByteArrayOutputStream byteBuffer    = new ByteArrayOutputStream ();
+    private static final int          HEADER_LENGTH          = 7;
 
-    private final OxiOneConfiguration   configuration;
+    private final SysexBuilder        sysexBuilder;
+    private final OxiOneConfiguration configuration;
+
+    /** The crushed RGB values of the colors for the current pad brightness, -1 if not calculated. */
+    private final int []              deviceColors           = new int [NUM_NOTES];
+    private double                    deviceColorsBrightness = -1;
 
 
     /**
@@ -49,14 +53,7 @@ public class OxiOnePadGrid extends BlinkingPadGrid
         super (colorManager, output, 8, 16, 0);
 
         this.configuration = configuration;
-
-        this.header[0] = (byte) 0xF0;
-        this.header[1] = 0x00;
-        this.header[2] = 0x21;
-        this.header[3] = 0x5B;
-        this.header[4] = (byte) (isMk2 ? 0x01 : 0x00);
-        this.header[5] = 0x01;
-        this.header[6] = 0x01;
+        this.sysexBuilder = new SysexBuilder (0xF0, 0x00, 0x21, 0x5B, isMk2 ? 0x01 : 0x00, 0x01, 0x01);
     }
 
 
@@ -64,20 +61,22 @@ public class OxiOnePadGrid extends BlinkingPadGrid
     @Override
     protected void updateController ()
     {
-        try
+        synchronized (this.sysexBuilder)
         {
-            synchronized (this.byteBuffer)
+            // The colors need to be calculated again if the brightness has changed
+            final double brightness = this.configuration.getPadBrightness ();
+            if (brightness != this.deviceColorsBrightness)
             {
-                this.byteBuffer.reset ();
-                this.byteBuffer.write (this.header);
-                super.updateController ();
-                this.byteBuffer.write ((byte) 0xF7);
-                this.output.sendSysex (this.byteBuffer.toByteArray ());
+                Arrays.fill (this.deviceColors, -1);
+                this.deviceColorsBrightness = brightness;
             }
-        }
-        catch (final IOException ex)
-        {
-            throw new RuntimeException ("Could not create sysex message.");
+
+            this.sysexBuilder.reset ();
+            super.updateController ();
+
+            // No update necessary
+            if (this.sysexBuilder.getPosition () > HEADER_LENGTH)
+                this.output.sendSysex (this.sysexBuilder);
         }
     }
 
@@ -86,26 +85,26 @@ public class OxiOnePadGrid extends BlinkingPadGrid
     @Override
     protected void sendPadUpdate (final int note, final int colorIndex)
     {
-        synchronized (this.byteBuffer)
+        synchronized (this.sysexBuilder)
         {
-            this.byteBuffer.write ((byte) (note / 16)); // y
-            this.byteBuffer.write ((byte) (note % 16)); // x
-
-            final double brightness = this.configuration.getPadBrightness ();
-            final ColorEx color = this.colorManager.getColor (colorIndex, ButtonID.PAD1);
-            final ColorEx scaledColor = color.scale (brightness, 1.0);
-
-            final int red = crushBits (scaledColor.getRed ());
-            this.byteBuffer.write ((byte) ((red & 0xF0) >> 4));
-            this.byteBuffer.write ((byte) (red & 0xF));
+            int deviceColor = this.deviceColors[colorIndex];
+            if (deviceColor < 0)
+            {
+                final ColorEx color = this.colorManager.getColor (colorIndex, ButtonID.PAD1);
+                final ColorEx scaledColor = color.scale (this.deviceColorsBrightness, 1.0);
+                deviceColor = crushBits (scaledColor.getRed ()) << 16 | crushBits (scaledColor.getGreen ()) << 8 | crushBits (scaledColor.getBlue ());
+                this.deviceColors[colorIndex] = deviceColor;
+            }
 
-            final int green = crushBits (scaledColor.getGreen ());
-            this.byteBuffer.write ((byte) ((green & 0xF0) >> 4));
-            this.byteBuffer.write ((byte) (green & 0xF));
+            final int red = deviceColor >> 16;
+            final int green = deviceColor >> 8 & 0xFF;
+            final int blue = deviceColor & 0xFF;
 
-            final int blue = crushBits (scaledColor.getBlue ());
-            this.byteBuffer.write ((byte) ((blue & 0xF0) >> 4));
-            this.byteBuffer.write ((byte) (blue & 0xF));
+            this.sysexBuilder.add (note / 16); // y
+            this.sysexBuilder.add (note % 16); // x
+            this.sysexBuilder.add ((red & 0xF0) >> 4).add (red & 0xF);
+            this.sysexBuilder.add ((green & 0xF0) >> 4).add (green & 0xF);
+            this.sysexBuilder.add ((blue & 0xF0) >> 4).add (blue & 0xF);
         }
     }
 
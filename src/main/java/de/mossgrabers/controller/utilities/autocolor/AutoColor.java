@@ -8,7 +8,6 @@ import java.util.ArrayList;
 import java.util.EnumMap;
 import java.util.List;
 import java.util.Map.Entry;
-import java.util.regex.Pattern;
 
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.daw.DAWColor;
@@ -27,10 +26,11 @@ import de.mossgrabers.framework.daw.data.bank.ITrackBank;
  */
 public class AutoColor
 {
-    private final EnumMap<DAWColor, List<Pattern>> colorRegex = new EnumMap<> (DAWColor.class);
-    private final AutoColorConfiguration           configuration;
-    private ITrackBank                             trackBank;
-    private final IHost                            host;
+    private final EnumMap<DAWColor, List<String>> colorRegex = new EnumMap<> (DAWColor.class);
+    private KeywordMatcher                        matcher    = KeywordMatcher.EMPTY;
+    private final AutoColorConfiguration          configuration;
+    private ITrackBank                            trackBank;
+    private final IHost                           host;
 
 
     /**
@@ -57,21 +57,48 @@ public class AutoColor
         if (!this.configuration.isEnableAutoColor ())
             return;
 
-        final List<Pattern> patterns = new ArrayList<> ();
+        final List<String> keywords = new ArrayList<> ();
         if (filter != null && !filter.trim ().isEmpty ())
         {
             for (final String part: filter.split (","))
-                patterns.add (Pattern.compile (".*" + Pattern.quote (part.trim ()) + ".*"));
+                keywords.add (part.trim ());
         }
         synchronized (this.colorRegex)
         {
-            this.colorRegex.put (color, patterns);
-            if (!patterns.isEmpty ())
-                this.updateTracks (color, patterns);
+            this.colorRegex.put (color, keywords);
+            this.matcher = this.createMatcher ();
+            if (!keywords.isEmpty ())
+                this.updateTracks (color);
         }
     }
 
 
+    /**
+     * Creates a matcher for the keywords of all colors. The group of a keyword is the ordinal of its
+     * color.
+     *
+     * @return The matcher
+     */
+    private KeywordMatcher createMatcher ()
+    {
+        final List<String> keywords = new ArrayList<> ();
+        final List<DAWColor> colors = new ArrayList<> ();
+        for (final Entry<DAWColor, List<String>> e: this.colorRegex.entrySet ())
+        {
+            for (final String keyword: e.getValue ())
+            {
+                keywords.add (keyword);
+                colors.add (e.getKey ());
+            }
+        }
+
+        final int [] groups = new int [colors.size ()];
+        for (int i = 0; i < groups.length; i++)
+            groups[i] = colors.get (i).ordinal ();
+        return new KeywordMatcher (keywords.toArray (new String [keywords.size ()]), groups);
+    }
+
+
     /**
      * Handle the change of a track name. Check the new track name against all substrings.
      *
@@ -89,20 +116,22 @@ public class AutoColor
      * Updates all tracks (in the page) for a color.
      *
      * @param color The color to match for
-     * @param patterns The patterns to match
      */
-    private void updateTracks (final DAWColor color, final List<Pattern> patterns)
+    private void updateTracks (final DAWColor color)
     {
         for (int i = 0; i < this.trackBank.getPageSize (); i++)
         {
             final ITrack track = this.trackBank.getItem (i);
-            this.matchColorToTrack (track, track.getName (), color, patterns);
+            final String trackName = track.getName ();
+            if ((this.matcher.match (trackName) & 1L << color.ordinal ()) != 0)
+                this.matchColorToTrack (track, trackName, color);
         }
     }
 
 
     /**
-     * Tests a track against all color patterns.
+     * Tests a track against all color keywords. The track name is only scanned once for the
+     * keywords of all colors.
      *
      * @param track The track to test
      * @param trackName The name of the track (the track name of the track might not yet been
@@ -112,40 +141,37 @@ public class AutoColor
     {
         synchronized (this.colorRegex)
         {
-            for (final Entry<DAWColor, List<Pattern>> e: this.colorRegex.entrySet ())
-                this.matchColorToTrack (track, trackName, e.getKey (), e.getValue ());
+            final long matches = this.matcher.match (trackName);
+            if (matches == 0)
+                return;
+            for (final DAWColor color: this.colorRegex.keySet ())
+            {
+                if ((matches & 1L << color.ordinal ()) != 0)
+                    this.matchColorToTrack (track, trackName, color);
+            }
         }
     }
 
 
     /**
-     * Tests a track for all given patterns and assigns the given color if it matches one of the
-     * patterns.
+     * Assigns the given color to the track, which contains one of the keywords of the color.
      *
-     * @param track The track to test
+     * @param track The track to color
      * @param trackName The name of the track (the track name of the track might not yet been
      *            updated)
      * @param color The color to apply
-     * @param patterns The pattern to test against
      */
-    private void matchColorToTrack (final ITrack track, final String trackName, final DAWColor color, final List<Pattern> patterns)
+    private void matchColorToTrack (final ITrack track, final String trackName, final DAWColor color)
     {
-        for (final Pattern pattern: patterns)
+        final ColorEx currentColor = track.getColor ();
+        final ColorEx newColor = color.getColor ();
+        if (!currentColor.equals (newColor))
         {
-            if (pattern.matcher (trackName).matches ())
-            {
-                final ColorEx currentColor = track.getColor ();
-                final ColorEx newColor = color.getColor ();
-                if (!currentColor.equals (newColor))
-                {
-                    // Delay the color change and check the name again to allow Undo
-                    this.host.scheduleTask ( () -> {
-                        if (trackName.equals (track.getName ()))
-                            track.setColor (newColor);
-                    }, 500);
-                }
-                break;
-            }
+            // Delay the color change and check the name again to allow Undo
+            this.host.scheduleTask ( () -> {
+                if (trackName.equals (track.getName ()))
+                    track.setColor (newColor);
+            }, 500);
         }
     }
 
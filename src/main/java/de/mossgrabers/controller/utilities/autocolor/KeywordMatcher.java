@@ -0,0 +1,144 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2026
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.utilities.autocolor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeSet;
+
+
+/**
+ * Finds all keywords which are contained in a text with one pass over the text (Aho-Corasick).
+ * Each keyword belongs to a group (0-63) and the result of a search is a bit mask of the groups of
+ * which at least one keyword is contained in the text. The search is case-sensitive. An empty
+ * keyword is contained in every text.
+ *
+ * @author Jürgen Moßgraber
+ */
+class KeywordMatcher
+{
+    /** Matches nothing. */
+    public static final KeywordMatcher EMPTY = new KeywordMatcher (new String [0], new int [0]);
+
+    private final char []              alphabet;
+    private final int [] []            transitions;
+    private final long []              matches;
+
+
+    /**
+     * Constructor.
+     *
+     * @param keywords The keywords to search for
+     * @param groups The group (0-63) of each keyword
+     */
+    public KeywordMatcher (final String [] keywords, final int [] groups)
+    {
+        // All characters used in the keywords, other characters always lead back to the root
+        final TreeSet<Character> characters = new TreeSet<> ();
+        for (final String keyword: keywords)
+        {
+            for (int i = 0; i < keyword.length (); i++)
+                characters.add (Character.valueOf (keyword.charAt (i)));
+        }
+        this.alphabet = new char [characters.size ()];
+        int pos = 0;
+        for (final Character c: characters)
+            this.alphabet[pos++] = c.charValue ();
+
+        // Build the trie
+        final List<int []> nodes = new ArrayList<> ();
+        final List<Long> nodeMatches = new ArrayList<> ();
+        nodes.add (this.createNode ());
+        nodeMatches.add (Long.valueOf (0));
+        for (int k = 0; k < keywords.length; k++)
+        {
+            if (groups[k] < 0 || groups[k] > 63)
+                throw new IllegalArgumentException ("Group must be in the range of 0-63.");
+
+            int node = 0;
+            final String keyword = keywords[k];
+            for (int i = 0; i < keyword.length (); i++)
+            {
+                final int index = Arrays.binarySearch (this.alphabet, keyword.charAt (i));
+                int next = nodes.get (node)[index];
+                if (next <= 0)
+                {
+                    next = nodes.size ();
+                    nodes.get (node)[index] = next;
+                    nodes.add (this.createNode ());
+                    nodeMatches.add (Long.valueOf (0));
+                }
+                node = next;
+            }
+            nodeMatches.set (node, Long.valueOf (nodeMatches.get (node).longValue () | 1L << groups[k]));
+        }
+
+        // Convert the trie into a state machine by following the failure links in breadth first
+        // order, missing transitions of the root lead back to the root
+        this.transitions = nodes.toArray (new int [nodes.size ()] []);
+        this.matches = new long [nodeMatches.size ()];
+        for (int i = 0; i < this.matches.length; i++)
+            this.matches[i] = nodeMatches.get (i).longValue ();
+
+        final int [] failures = new int [this.transitions.length];
+        final int [] queue = new int [this.transitions.length];
+        int head = 0;
+        int tail = 0;
+        for (int c = 0; c < this.alphabet.length; c++)
+        {
+            final int next = this.transitions[0][c];
+            if (next > 0)
+                queue[tail++] = next;
+            else
+                this.transitions[0][c] = 0;
+        }
+        while (head < tail)
+        {
+            final int node = queue[head++];
+            this.matches[node] |= this.matches[failures[node]];
+            for (int c = 0; c < this.alphabet.length; c++)
+            {
+                final int next = this.transitions[node][c];
+                final int fallback = this.transitions[failures[node]][c];
+                if (next > 0)
+                {
+                    failures[next] = fallback;
+                    queue[tail++] = next;
+                }
+                else
+                    this.transitions[node][c] = fallback;
+            }
+        }
+    }
+
+
+    /**
+     * Search all keywords in the text.
+     *
+     * @param text The text to search in
+     * @return The bit mask of the groups of which at least one keyword is contained in the text
+     */
+    public long match (final String text)
+    {
+        int node = 0;
+        long result = this.matches[0];
+        for (int i = 0; i < text.length (); i++)
+        {
+            final int index = Arrays.binarySearch (this.alphabet, text.charAt (i));
+            node = index < 0 ? 0 : this.transitions[node][index];
+            result |= this.matches[node];
+        }
+        return result;
+    }
+
+
+    private int [] createNode ()
+    {
+        final int [] node = new int [this.alphabet.length];
+        Arrays.fill (node, -1);
+        return node;
+    }
+}
@@ -10,7 +10,6 @@ import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.MidiConstants;
 import de.mossgrabers.framework.scale.Scales;
-import de.mossgrabers.framework.utils.StringUtils;
 
 
 /**
@@ -54,7 +53,7 @@ public class MidiMonitorControlSurface extends AbstractControlSurface<MidiMonito
     {
         super (host, configuration, null, null, input, null, 10, 10);
 
-        this.input.setSysexCallback (this::handleSysEx);
+        this.input.setSysexDataCallback (this::handleSysEx);
     }
 
 
@@ -111,9 +110,9 @@ public class MidiMonitorControlSurface extends AbstractControlSurface<MidiMonito
      * Handle MIDI system exclusive messages. Note: this can be called multiple times in chunks of
      * 1024 bytes!
      *
-     * @param dataStr The data formatted as hexadecimal numbers
+     * @param data The system exclusive data
      */
-    private void handleSysEx (final String dataStr)
+    private void handleSysEx (final int [] data)
     {
         if (this.printSysexHeader)
         {
@@ -124,7 +123,6 @@ public class MidiMonitorControlSurface extends AbstractControlSurface<MidiMonito
             this.host.println ("|-----------------------------------------------------------------------");
         }
 
-        final int [] data = StringUtils.fromHexStr (dataStr);
         if (data.length == 0)
             return;
 
@@ -0,0 +1,120 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2026
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller.color;
+
+import java.util.Arrays;
+
+
+/**
+ * Looks up the index of the closest color in a fixed palette. The colors are quantized to 8 bit per
+ * channel (which is also the resolution of all controller palettes) and the result of the search is
+ * remembered for the quantized color. Therefore, the linear search over the palette is only
+ * executed the first time a color is requested (or if it was evicted by another color with the same
+ * hash).
+ *
+ * The cache is lock-free: key and index are stored together in one integer, a concurrent lookup
+ * either sees a complete entry or a miss.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class ColorLookup
+{
+    private static final int  CACHE_SIZE = 1024;
+    private static final int  CACHE_MASK = CACHE_SIZE - 1;
+    private static final int  EMPTY      = -1;
+
+    private final double []   reds;
+    private final double []   greens;
+    private final double []   blues;
+    private final int         startIndex;
+    private final int         defaultIndex;
+    private final boolean     useColorMetric;
+    private final int []      cache      = new int [CACHE_SIZE];
+
+
+    /**
+     * Constructor.
+     *
+     * @param palette The palette to pick the colors from, at most 255 colors
+     * @param startIndex The index of the first color in the palette to consider
+     * @param defaultIndex The index to return if no color is close enough
+     * @param useColorMetric If true uses color metrics to calculate the distance, see
+     *            https://www.compuphase.com/cmetric.htm
+     */
+    public ColorLookup (final ColorEx [] palette, final int startIndex, final int defaultIndex, final boolean useColorMetric)
+    {
+        if (palette.length > 255)
+            throw new IllegalArgumentException ("A palette for a color lookup must not contain more than 255 colors.");
+
+        this.reds = new double [palette.length];
+        this.greens = new double [palette.length];
+        this.blues = new double [palette.length];
+        for (int i = 0; i < palette.length; i++)
+        {
+            this.reds[i] = palette[i].getRed ();
+            this.greens[i] = palette[i].getGreen ();
+            this.blues[i] = palette[i].getBlue ();
+        }
+
+        this.startIndex = startIndex;
+        this.defaultIndex = defaultIndex;
+        this.useColorMetric = useColorMetric;
+
+        Arrays.fill (this.cache, EMPTY);
+    }
+
+
+    /**
+     * Get the index of the palette color which is the closest to the given color.
+     *
+     * @param color The color
+     * @return The index of the closest color, the default index if no color is close enough
+     */
+    public int getIndex (final ColorEx color)
+    {
+        return this.getIndex (color.encode ());
+    }
+
+
+    /**
+     * Get the index of the palette color which is the closest to the given color.
+     *
+     * @param encodedColor The color encoded with 8 bit per channel, see {@link ColorEx#encode()}
+     * @return The index of the closest color, the default index if no color is close enough
+     */
+    public int getIndex (final int encodedColor)
+    {
+        final int key = encodedColor & 0xFFFFFF;
+        final int slot = (key * 0x9E3779B1 >>> 22) & CACHE_MASK;
+        final int entry = this.cache[slot];
+        if (entry != EMPTY && entry >>> 8 == key)
+            return entry & 0xFF;
+
+        final int index = this.search (key);
+        this.cache[slot] = key << 8 | index;
+        return index;
+    }
+
+
+    private int search (final int key)
+    {
+        final double red = (key & 0xFF) / 255.0;
+        final double green = (key >> 8 & 0xFF) / 255.0;
+        final double blue = (key >> 16 & 0xFF) / 255.0;
+
+        double minError = 5.0;
+        int closest = this.defaultIndex;
+        for (int i = this.startIndex; i < this.reds.length; i++)
+        {
+            final double error = ColorEx.calcDistance (this.reds[i], this.greens[i], this.blues[i], red, green, blue, this.useColorMetric);
+            if (error < minError)
+            {
+                closest = i;
+                minError = error;
+            }
+        }
+        return closest;
+    }
+}
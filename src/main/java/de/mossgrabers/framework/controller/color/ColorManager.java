@@ -4,6 +4,7 @@
 
 package de.mossgrabers.framework.controller.color;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -29,6 +30,9 @@ public class ColorManager
     protected final Map<String, Integer>  colorIndexByKey  = new HashMap<> ();
     protected final Map<Integer, ColorEx> colorByIndex     = new HashMap<> ();
 
+    private final Map<String, Integer>    colorIDByKey     = new HashMap<> ();
+    private int []                        colorIndexByID   = new int [16];
+
 
     /**
      * Registers a a color index. An exception is thrown if the color index is already registered.
@@ -53,6 +57,10 @@ public class ColorManager
     public void updateColorIndex (final String key, final int colorIndex)
     {
         this.colorIndexByKey.put (key, Integer.valueOf (colorIndex));
+
+        final Integer colorID = this.colorIDByKey.get (key);
+        if (colorID != null)
+            this.colorIndexByID[colorID.intValue ()] = colorIndex;
     }
 
 
@@ -83,6 +91,42 @@ public class ColorManager
     }
 
 
+    /**
+     * Get the ID of the color index which is registered with the given key. The ID can be resolved
+     * once (e.g. when a view is created) and then be used with getColorIndexByID instead of the
+     * lookup by the key. The ID stays valid if the color index of the key is updated.
+     *
+     * @param key The key
+     * @return The color ID
+     */
+    public int getColorID (final String key)
+    {
+        final Integer colorID = this.colorIDByKey.get (key);
+        if (colorID != null)
+            return colorID.intValue ();
+
+        final int colorIndex = this.getColorIndex (key);
+        final int id = this.colorIDByKey.size ();
+        if (id == this.colorIndexByID.length)
+            this.colorIndexByID = Arrays.copyOf (this.colorIndexByID, 2 * id);
+        this.colorIndexByID[id] = colorIndex;
+        this.colorIDByKey.put (key, Integer.valueOf (id));
+        return id;
+    }
+
+
+    /**
+     * Get the color index of a color ID.
+     *
+     * @param colorID The color ID, see getColorID
+     * @return The color index
+     */
+    public int getColorIndexByID (final int colorID)
+    {
+        return this.colorIndexByID[colorID];
+    }
+
+
     /**
      * Registers the real RGB color which is represented by the given color index.
      *
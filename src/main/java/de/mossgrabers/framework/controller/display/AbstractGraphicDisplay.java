@@ -5,8 +5,12 @@
 package de.mossgrabers.framework.controller.display;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -39,6 +43,7 @@ import de.mossgrabers.framework.graphics.canvas.component.ListComponent;
 import de.mossgrabers.framework.graphics.canvas.component.MidiClipComponent;
 import de.mossgrabers.framework.graphics.canvas.component.OptionsComponent;
 import de.mossgrabers.framework.graphics.canvas.component.ParameterComponent;
+import de.mossgrabers.framework.graphics.canvas.component.PlayCursorOverlayComponent;
 import de.mossgrabers.framework.graphics.canvas.component.SceneListGridElement;
 import de.mossgrabers.framework.graphics.canvas.component.SendsComponent;
 import de.mossgrabers.framework.graphics.canvas.utils.SendData;
@@ -88,6 +93,8 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     protected final IGraphicsConfiguration configuration;
     protected final IGraphicsDimensions    dimensions;
     private final IBitmap                  image;
+    private final Map<Integer, ColumnCache> columnCaches                   = new HashMap<> ();
+    private Object []                      style                           = new Object [0];
 
     private IHwGraphicsDisplay             hardwareDisplay;
 
@@ -223,6 +230,11 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     public void setMidiClipElement (final INoteClip clip, final int quartersPerMeasure, final NotePosition activePosition)
     {
         this.addElement (new MidiClipComponent (clip, quartersPerMeasure, activePosition));
+
+        // The play cursor is an overlay, so that the rendered notes of the clip can be re-used while
+        // the cursor moves. The clip is the only element and therefore fills the whole width.
+        final double separatorSize = this.dimensions.getSeparatorSize ();
+        this.overlays.add (new PlayCursorOverlayComponent (separatorSize / 2.0, this.dimensions.getWidth () - separatorSize, clip.getNumSteps (), clip.getCurrentStep ()));
     }
 
 
@@ -441,31 +453,51 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
 
     private void renderImage ()
     {
-        this.image.render (this.configuration.isAntialiasEnabled (), gc -> {
+        final int width = this.dimensions.getWidth ();
+        final int height = this.dimensions.getHeight ();
 
-            final int width = this.dimensions.getWidth ();
-            final int height = this.dimensions.getHeight ();
-            final double separatorSize = this.dimensions.getSeparatorSize ();
+        // Render only the columns which changed into their cached bitmaps. Components which draw
+        // into the neighbouring columns (not only into the separators) cannot be cached, they are
+        // drawn directly instead
+        final List<IComponent> elements = this.info.getComponents ();
+        final int size = elements.size ();
+        final int gridWidth = size == 0 ? 0 : width / size;
+        final ColumnCache columnCache = size == 0 || !areInsideBounds (elements) ? null : this.updateColumnCache (elements, gridWidth, height);
+
+        this.image.render (this.configuration.isAntialiasEnabled (), gc -> {
 
             // Clear display
             final ColorEx colorBorder = this.configuration.getColorBorder ();
             gc.fillRectangle (0, 0, width, height, colorBorder);
 
-            // Draw the component element
-            final List<IComponent> elements = this.info.getComponents ();
-            final int size = elements.size ();
+            // Draw the component elements
             if (size == 0)
                 return;
-            final int gridWidth = width / size;
+            final IGraphicsInfo graphicsInfo = new DefaultGraphicsInfo (gc, this.configuration, this.dimensions);
+            final double separatorSize = this.dimensions.getSeparatorSize ();
             final double paintWidth = gridWidth - separatorSize;
             final double offsetX = separatorSize / 2.0;
-
-            final IGraphicsInfo graphicsInfo = new DefaultGraphicsInfo (gc, this.configuration, this.dimensions);
-            for (int i = 0; i < size; i++)
+            if (columnCache == null)
+            {
+                for (int i = 0; i < size; i++)
+                {
+                    final IComponent component = elements.get (i);
+                    if (component != null)
+                        component.draw (graphicsInfo.withBounds (i * gridWidth + offsetX, 0, paintWidth, height));
+                }
+            }
+            else
             {
-                final IComponent component = elements.get (i);
-                if (component != null)
-                    component.draw (graphicsInfo.withBounds (i * gridWidth + offsetX, 0, paintWidth, height));
+                for (int i = 0; i < size; i++)
+                    gc.drawImage (columnCache.images[i], i * gridWidth, 0);
+
+                // The column bitmaps cut off the parts which reach into the separators
+                for (int i = 0; i < size; i++)
+                {
+                    final IComponent component = elements.get (i);
+                    if (component != null)
+                        component.drawOutsideBounds (graphicsInfo.withBounds (i * gridWidth + offsetX, 0, paintWidth, height));
+                }
             }
 
             // Draw overlays
@@ -484,6 +516,103 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     }
 
 
+    /**
+     * Checks if all components draw only inside of their column.
+     *
+     * @param elements The components to check
+     * @return True if all components can be drawn into the bitmap of their column
+     */
+    private static boolean areInsideBounds (final List<IComponent> elements)
+    {
+        for (final IComponent component: elements)
+        {
+            if (component != null && !component.isInsideBounds ())
+                return false;
+        }
+        return true;
+    }
+
+
+    /**
+     * Renders all components which are different from the ones in the cached bitmaps of their
+     * column. The cache for a specific number of columns is created on first use.
+     *
+     * @param elements The components to draw
+     * @param gridWidth The width of one column
+     * @param height The height of the display
+     * @return The updated cache
+     */
+    private ColumnCache updateColumnCache (final List<IComponent> elements, final int gridWidth, final int height)
+    {
+        final int size = elements.size ();
+        final ColumnCache columnCache = this.columnCaches.computeIfAbsent (Integer.valueOf (size), key -> new ColumnCache (this.host, size, gridWidth, height));
+
+        // All cached columns are outdated if the colors or antialias setting have changed
+        final Object [] newStyle = this.getStyle ();
+        if (!Arrays.equals (this.style, newStyle))
+        {
+            this.style = newStyle;
+            for (final ColumnCache cache: this.columnCaches.values ())
+                cache.invalidate ();
+        }
+
+        for (int i = 0; i < size; i++)
+        {
+            final IComponent component = elements.get (i);
+            if (columnCache.isValid[i] && Objects.equals (columnCache.components[i], component))
+                continue;
+            this.renderColumn (columnCache.images[i], component, gridWidth, height);
+            columnCache.components[i] = component;
+            columnCache.isValid[i] = true;
+        }
+        return columnCache;
+    }
+
+
+    /**
+     * Draw a component into the bitmap of its column.
+     *
+     * @param columnImage The bitmap of the column
+     * @param component The component to draw, might be null
+     * @param gridWidth The width of the column
+     * @param height The height of the column
+     */
+    private void renderColumn (final IBitmap columnImage, final IComponent component, final int gridWidth, final int height)
+    {
+        columnImage.render (this.configuration.isAntialiasEnabled (), gc -> {
+
+            gc.fillRectangle (0, 0, gridWidth, height, this.configuration.getColorBorder ());
+            if (component == null)
+                return;
+
+            final double separatorSize = this.dimensions.getSeparatorSize ();
+            final IGraphicsInfo graphicsInfo = new DefaultGraphicsInfo (gc, this.configuration, this.dimensions);
+            component.draw (graphicsInfo.withBounds (separatorSize / 2.0, 0, gridWidth - separatorSize, height));
+
+        });
+    }
+
+
+    private Object [] getStyle ()
+    {
+        return new Object []
+        {
+            this.configuration.getColorText (),
+            this.configuration.getColorBackground (),
+            this.configuration.getColorBackgroundDarker (),
+            this.configuration.getColorBackgroundLighter (),
+            this.configuration.getColorBorder (),
+            this.configuration.getColorEdit (),
+            this.configuration.getColorFader (),
+            this.configuration.getColorVu (),
+            this.configuration.getColorRecord (),
+            this.configuration.getColorSolo (),
+            this.configuration.getColorMute (),
+            Boolean.valueOf (this.configuration.isAntialiasEnabled ())
+        };
+    }
+
+
     private void checkNotificationCounter ()
     {
         synchronized (this.counterSync)
@@ -497,4 +626,42 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
                 this.notificationMessage.set (null);
         }
     }
+
+
+    /**
+     * Caches the rendered bitmap of each column for a specific number of columns.
+     */
+    private static class ColumnCache
+    {
+        private final IBitmap []    images;
+        private final IComponent [] components;
+        private final boolean []    isValid;
+
+
+        /**
+         * Constructor.
+         *
+         * @param host The host
+         * @param size The number of columns
+         * @param gridWidth The width of one column
+         * @param height The height of a column
+         */
+        ColumnCache (final IHost host, final int size, final int gridWidth, final int height)
+        {
+            this.images = new IBitmap [size];
+            this.components = new IComponent [size];
+            this.isValid = new boolean [size];
+            for (int i = 0; i < size; i++)
+                this.images[i] = host.createBitmap (gridWidth, height);
+        }
+
+
+        /**
+         * Mark all columns for re-rendering.
+         */
+        void invalidate ()
+        {
+            Arrays.fill (this.isValid, false);
+        }
+    }
 }
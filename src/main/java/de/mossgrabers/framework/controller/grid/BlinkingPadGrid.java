@@ -7,25 +7,27 @@ package de.mossgrabers.framework.controller.grid;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Map.Entry;
-import java.util.TreeMap;
-
 
 /**
- * Implementation of a grid of pads with software simulated blinking pads.
+ * Implementation of a grid of pads with software simulated blinking pads. The updates of the pads
+ * are collected until the next flush in flat arrays indexed by the MIDI note of the pad together
+ * with a bitmap of the changed pads, therefore collecting and flushing the updates does not create
+ * any objects and a flush without changes does nothing. All grids blink in the same phase, which is
+ * derived from the system clock.
  *
  * @author Jürgen Moßgraber
  */
 public abstract class BlinkingPadGrid extends PadGridImpl
 {
-    protected static final int              BLINK_SPEED    = 600;
+    protected static final int BLINK_SPEED        = 600;
 
-    protected final Map<Integer, LightInfo> blinkingLights = new HashMap<> ();
-    protected final Map<Integer, LightInfo> padInfos       = new TreeMap<> ();
-    protected boolean                       isBlink;
-    protected long                          updateTime     = System.currentTimeMillis ();
+    private final int []       pendingColors      = new int [NUM_NOTES];
+    private final int []       pendingBlinkColors = new int [NUM_NOTES];
+    private final long []      pendingPads        = new long [NUM_NOTES / 64];
+    private final int []       blinkColors        = new int [NUM_NOTES];
+    private final int []       colors             = new int [NUM_NOTES];
+    private final long []      blinkingPads       = new long [NUM_NOTES / 64];
+    protected boolean          isBlink;
 
 
     /**
@@ -60,10 +62,9 @@ public abstract class BlinkingPadGrid extends PadGridImpl
      */
     public void flush ()
     {
-        synchronized (this.padInfos)
+        synchronized (this.pendingPads)
         {
             this.updateController ();
-            this.padInfos.clear ();
         }
     }
 
@@ -73,27 +74,43 @@ public abstract class BlinkingPadGrid extends PadGridImpl
      */
     protected void updateController ()
     {
-        for (final Entry<Integer, LightInfo> e: this.padInfos.entrySet ())
+        for (int i = 0; i < this.pendingPads.length; i++)
         {
-            final Integer note = e.getKey ();
-            final LightInfo info = e.getValue ();
-            this.sendPadUpdate (note.intValue (), info.getColor ());
-
-            if (info.getBlinkColor () > 0)
-                this.blinkingLights.put (note, info);
-            else
-                this.blinkingLights.remove (note);
+            long pads = this.pendingPads[i];
+            this.pendingPads[i] = 0;
+            while (pads != 0)
+            {
+                final int note = i * 64 + Long.numberOfTrailingZeros (pads);
+                pads &= pads - 1;
+
+                final int color = this.pendingColors[note];
+                final int blinkColor = this.pendingBlinkColors[note];
+                this.pendingBlinkColors[note] = 0;
+                this.sendPadUpdate (note, color);
+
+                if (blinkColor > 0)
+                {
+                    this.colors[note] = color;
+                    this.blinkColors[note] = blinkColor;
+                    this.blinkingPads[i] |= 1L << note;
+                }
+                else
+                    this.blinkingPads[i] &= ~(1L << note);
+            }
         }
 
         // Toggle blink colors every 600ms
         if (!this.checkBlinking ())
             return;
-        for (final Entry<Integer, LightInfo> value: this.blinkingLights.entrySet ())
+        for (int i = 0; i < this.blinkingPads.length; i++)
         {
-            final LightInfo info = value.getValue ();
-            final int colorIndex = this.isBlink ? info.getBlinkColor () : info.getColor ();
-            final int note = value.getKey ().intValue ();
-            this.sendPadUpdate (note, colorIndex);
+            long pads = this.blinkingPads[i];
+            while (pads != 0)
+            {
+                final int note = i * 64 + Long.numberOfTrailingZeros (pads);
+                pads &= pads - 1;
+                this.sendPadUpdate (note, this.isBlink ? this.blinkColors[note] : this.colors[note]);
+            }
         }
     }
 
@@ -102,9 +119,10 @@ public abstract class BlinkingPadGrid extends PadGridImpl
     @Override
     protected void sendNoteState (final int channel, final int note, final int color)
     {
-        synchronized (this.padInfos)
+        synchronized (this.pendingPads)
         {
-            this.padInfos.computeIfAbsent (Integer.valueOf (note), key -> new LightInfo ()).setColor (color);
+            this.pendingColors[note] = color;
+            this.pendingPads[note / 64] |= 1L << note;
         }
     }
 
@@ -113,25 +131,30 @@ public abstract class BlinkingPadGrid extends PadGridImpl
     @Override
     protected void sendBlinkState (final int channel, final int note, final int blinkColor, final boolean fast)
     {
-        synchronized (this.padInfos)
+        synchronized (this.pendingPads)
         {
-            final LightInfo info = this.padInfos.computeIfAbsent (Integer.valueOf (note), key -> new LightInfo ());
-            info.setBlinkColor (blinkColor);
-            info.setFast (fast);
+            // The color is off if only the blink state of a pad was sent
+            if ((this.pendingPads[note / 64] & 1L << note) == 0)
+                this.pendingColors[note] = 0;
+            this.pendingBlinkColors[note] = blinkColor;
+            this.pendingPads[note / 64] |= 1L << note;
         }
     }
 
 
+    /**
+     * Check if the blink phase has changed since the last call. The phase is calculated from the
+     * system clock, which keeps all grids in sync.
+     *
+     * @return True if the blinking pads need to be updated
+     */
     protected boolean checkBlinking ()
     {
-        final long now = System.currentTimeMillis ();
-        if (now - this.updateTime > BLINK_SPEED)
-        {
-            this.updateTime = now;
-            this.isBlink = !this.isBlink;
-            return true;
-        }
-        return false;
+        final boolean blink = System.currentTimeMillis () / BLINK_SPEED % 2 == 1;
+        if (blink == this.isBlink)
+            return false;
+        this.isBlink = blink;
+        return true;
     }
 
 
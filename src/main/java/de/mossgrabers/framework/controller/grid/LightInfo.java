@@ -149,13 +149,63 @@ public final class LightInfo
      */
     private void encode ()
     {
-        if (this.color < 0 || this.color > 127)
-            throw new FrameworkException ("Color indices must be in the range of [0..127] but is " + this.color + "!");
-        if (this.blinkColor > 127)
-            throw new FrameworkException ("Color indices may not be larger than 127 but blink index is " + this.blinkColor + "!");
-
-        final int codeBlinkColor = this.blinkColor < 0 ? 1 << 15 : this.blinkColor << 8;
-        final int codeFast = this.fast ? 1 << 16 : 0;
-        this.encoded = codeFast + codeBlinkColor + this.color;
+        this.encoded = encode (this.color, this.blinkColor, this.fast);
+    }
+
+
+    /**
+     * Encode the color and blink states as one integer.
+     *
+     * @param color The color
+     * @param blinkColor The blink color or -1 for off
+     * @param fast True to blink fast
+     * @return The encoded state
+     */
+    public static int encode (final int color, final int blinkColor, final boolean fast)
+    {
+        if (color < 0 || color > 127)
+            throw new FrameworkException ("Color indices must be in the range of [0..127] but is " + color + "!");
+        if (blinkColor > 127)
+            throw new FrameworkException ("Color indices may not be larger than 127 but blink index is " + blinkColor + "!");
+
+        final int codeBlinkColor = blinkColor < 0 ? 1 << 15 : blinkColor << 8;
+        final int codeFast = fast ? 1 << 16 : 0;
+        return codeFast + codeBlinkColor + color;
+    }
+
+
+    /**
+     * Get the color from an encoded state.
+     *
+     * @param encoded The encoded state
+     * @return The color
+     */
+    public static int decodeColor (final int encoded)
+    {
+        return encoded & 0x7F;
+    }
+
+
+    /**
+     * Get the blink color from an encoded state.
+     *
+     * @param encoded The encoded state
+     * @return The blink color or -1 for off
+     */
+    public static int decodeBlinkColor (final int encoded)
+    {
+        return (encoded & 1 << 15) > 0 ? -1 : encoded >> 8 & 0x7F;
+    }
+
+
+    /**
+     * Get the fast blink flag from an encoded state.
+     *
+     * @param encoded The encoded state
+     * @return True if fast
+     */
+    public static boolean decodeFast (final int encoded)
+    {
+        return (encoded & 1 << 16) > 0;
     }
 }
\ No newline at end of file
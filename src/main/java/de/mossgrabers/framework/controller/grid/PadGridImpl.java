@@ -7,6 +7,8 @@ package de.mossgrabers.framework.controller.grid;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 
+import java.util.Arrays;
+
 
 /**
  * Implementation of a grid of pads.
@@ -20,13 +22,15 @@ public class PadGridImpl implements IPadGrid
     protected final IMidiOutput  output;
     protected final ColorManager colorManager;
 
-    protected LightInfo []       padStates;
+    protected final int []       padStates;
 
     protected int                rows;
     protected int                columns;
     protected int                startNote;
     protected int                endNote;
 
+    private int                  gridOffColorID = -1;
+
 
     /**
      * Constructor.
@@ -59,10 +63,9 @@ public class PadGridImpl implements IPadGrid
         this.endNote = this.startNote + this.rows * this.columns - 1;
 
         // Note: Even if the grid contains less than 128 pads it is more efficient to use
-        // the 128 note values the pads understand
-        this.padStates = new LightInfo [NUM_NOTES];
-        for (int i = 0; i < NUM_NOTES; i++)
-            this.padStates[i] = new LightInfo ();
+        // the 128 note values the pads understand. The states are stored encoded (see LightInfo)
+        // to not need an object for each pad
+        this.padStates = new int [NUM_NOTES];
     }
 
 
@@ -141,7 +144,21 @@ public class PadGridImpl implements IPadGrid
      */
     protected void setLight (final int note, final int color, final int blinkColor, final boolean fast)
     {
-        this.padStates[note].setColors (color, blinkColor >= 0 ? blinkColor : this.colorManager.getColorIndex (GRID_OFF), fast);
+        this.padStates[note] = LightInfo.encode (color, blinkColor >= 0 ? blinkColor : this.getGridOffColor (), fast);
+    }
+
+
+    /**
+     * Get the color index of the off state. The color ID is only resolved once since it is required
+     * for each pad update.
+     *
+     * @return The color index
+     */
+    protected int getGridOffColor ()
+    {
+        if (this.gridOffColorID < 0)
+            this.gridOffColorID = this.colorManager.getColorID (GRID_OFF);
+        return this.colorManager.getColorIndexByID (this.gridOffColorID);
     }
 
 
@@ -149,7 +166,7 @@ public class PadGridImpl implements IPadGrid
     @Override
     public void forceFlush (final int note)
     {
-        this.padStates[note].setColors (0, 0, false);
+        this.padStates[note] = 0;
     }
 
 
@@ -157,14 +174,22 @@ public class PadGridImpl implements IPadGrid
     @Override
     public void forceFlush ()
     {
-        for (int i = this.startNote; i <= this.endNote; i++)
-            this.padStates[i].setColors (0, 0, false);
+        Arrays.fill (this.padStates, this.startNote, this.endNote + 1, 0);
     }
 
 
     /** {@inheritDoc} */
     @Override
     public LightInfo getLightInfo (final int note)
+    {
+        final int encoded = this.padStates[note];
+        return new LightInfo (LightInfo.decodeColor (encoded), LightInfo.decodeBlinkColor (encoded), LightInfo.decodeFast (encoded));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getEncodedState (final int note)
     {
         return this.padStates[note];
     }
@@ -174,15 +199,14 @@ public class PadGridImpl implements IPadGrid
     @Override
     public void sendState (final int note)
     {
-        final LightInfo state = note < this.padStates.length ? this.padStates[note] : new LightInfo ();
+        final int encoded = note < this.padStates.length ? this.padStates[note] : 0;
         final int [] translated = this.translateToController (note);
-        final int color = state.getColor ();
         // MPE?
         final int channel = translated[0] < 0 ? 0 : translated[0];
-        this.sendNoteState (channel, translated[1], color < 0 ? 0 : color);
-        final int blinkColor = state.getBlinkColor ();
-        if (blinkColor > 0 && blinkColor < 128)
-            this.sendBlinkState (channel, translated[1], blinkColor, state.isFast ());
+        this.sendNoteState (channel, translated[1], LightInfo.decodeColor (encoded));
+        final int blinkColor = LightInfo.decodeBlinkColor (encoded);
+        if (blinkColor > 0)
+            this.sendBlinkState (channel, translated[1], blinkColor, LightInfo.decodeFast (encoded));
     }
 
 
@@ -217,7 +241,7 @@ public class PadGridImpl implements IPadGrid
     @Override
     public void turnOff ()
     {
-        final int color = this.colorManager.getColorIndex (GRID_OFF);
+        final int color = this.getGridOffColor ();
         for (int i = this.startNote; i <= this.endNote; i++)
         {
             this.light (i, color, -1, false);
@@ -10,7 +10,7 @@ import java.util.List;
 import de.mossgrabers.framework.command.core.TriggerCommand;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.utils.ButtonEvent;
-import de.mossgrabers.framework.utils.TimeoutOptimizer;
+import de.mossgrabers.framework.utils.TimerWheel;
 
 
 /**
@@ -22,7 +22,7 @@ public abstract class AbstractHwButton extends AbstractHwInputControl implements
 {
     private static final int               BUTTON_STATE_INTERVAL = 300;
 
-    private final TimeoutOptimizer         optimizer;
+    private TimerWheel.Timer               longPressTimer;
 
     protected TriggerCommand               command;
     protected IHwLight                     light;
@@ -44,8 +44,6 @@ public abstract class AbstractHwButton extends AbstractHwInputControl implements
     protected AbstractHwButton (final IHost host, final String label)
     {
         super (host, label);
-
-        this.optimizer = new TimeoutOptimizer (host, BUTTON_STATE_INTERVAL);
     }
 
 
@@ -79,7 +77,10 @@ public abstract class AbstractHwButton extends AbstractHwInputControl implements
         this.state = ButtonEvent.DOWN;
         this.isConsumed = false;
 
-        this.host.scheduleTask (this::checkButtonState, this.optimizer.getTimeout ());
+        // Created on first use to not pass the instance to the timer wheel from the constructor
+        if (this.longPressTimer == null)
+            this.longPressTimer = this.host.getTimerWheel ().createTimer (this::checkButtonState);
+        this.longPressTimer.start (BUTTON_STATE_INTERVAL);
         this.pressedVelocity = (int) (value * 127.0);
         if (this.command != null)
             this.command.execute (ButtonEvent.DOWN, this.pressedVelocity);
@@ -97,6 +98,8 @@ public abstract class AbstractHwButton extends AbstractHwInputControl implements
             return;
 
         this.state = ButtonEvent.UP;
+        if (this.longPressTimer != null)
+            this.longPressTimer.cancel ();
         if (this.command != null && !this.isConsumed)
             this.command.execute (ButtonEvent.UP, 0);
 
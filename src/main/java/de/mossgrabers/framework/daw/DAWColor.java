@@ -5,6 +5,7 @@
 package de.mossgrabers.framework.daw;
 
 import de.mossgrabers.framework.controller.color.ColorEx;
+import de.mossgrabers.framework.controller.color.ColorLookup;
 
 import java.util.List;
 
@@ -75,6 +76,9 @@ public enum DAWColor
 
 
     private static final List<DAWColor> NEW_TRACK_COLORS = List.of (DAW_COLOR_PURPLE, DAW_COLOR_PINK, DAW_COLOR_RED, DAW_COLOR_ORANGE, DAW_COLOR_LIGHT_ORANGE, DAW_COLOR_MOSS_GREEN, DAW_COLOR_GREEN, DAW_COLOR_COLD_GREEN, DAW_COLOR_BLUE);
+    private static final DAWColor []    VALUES           = DAWColor.values ();
+    /** The closest color search, the first entry (COLOR_OFF) is only used as the fallback. */
+    private static final ColorLookup    COLOR_LOOKUP     = new ColorLookup (getColors (), 1, 0, true);
     private static DAWColor             newTrackColor    = DAW_COLOR_DARK_BLUE;
 
     private final String                name;
@@ -137,8 +141,7 @@ public enum DAWColor
      */
     public static ColorEx getColorEntry (final int colorIndex)
     {
-        final DAWColor [] values = DAWColor.values ();
-        return values[colorIndex >= 0 && colorIndex < values.length ? colorIndex : 0].getColor ();
+        return VALUES[colorIndex >= 0 && colorIndex < VALUES.length ? colorIndex : 0].getColor ();
     }
 
 
@@ -176,19 +179,7 @@ public enum DAWColor
      */
     public static String getColorID (final ColorEx color)
     {
-        final DAWColor [] values = DAWColor.values ();
-        DAWColor cid = values[0];
-        double minError = 5.0;
-        for (int i = 1; i < values.length; i++)
-        {
-            final double error = ColorEx.calcDistance (values[i].getColor (), color, true);
-            if (error < minError)
-            {
-                cid = values[i];
-                minError = error;
-            }
-        }
-        return cid.name ();
+        return VALUES[COLOR_LOOKUP.getIndex (color)].name ();
     }
 
 
@@ -208,4 +199,13 @@ public enum DAWColor
 
         return color;
     }
+
+
+    private static ColorEx [] getColors ()
+    {
+        final ColorEx [] colors = new ColorEx [VALUES.length];
+        for (int i = 0; i < VALUES.length; i++)
+            colors[i] = VALUES[i].color;
+        return colors;
+    }
 }
@@ -18,6 +18,7 @@ import de.mossgrabers.framework.osc.IOpenSoundControlServer;
 import de.mossgrabers.framework.parameter.NoteAttribute;
 import de.mossgrabers.framework.usb.IUsbDevice;
 import de.mossgrabers.framework.usb.UsbException;
+import de.mossgrabers.framework.utils.TimerWheel;
 
 
 /**
@@ -76,6 +77,15 @@ public interface IHost
     void scheduleTask (Runnable task, long delay);
 
 
+    /**
+     * Get the timer wheel which runs the short timeouts of the controller, e.g. to detect long
+     * button presses.
+     *
+     * @return The timer wheel
+     */
+    TimerWheel getTimerWheel ();
+
+
     /**
      * Print the error to the console.
      *
@@ -160,6 +160,14 @@ public abstract class AbstractMidiOutput implements IMidiOutput
     protected abstract void sendMidiShort (final int status, final int data1, final int data2);
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void sendSysex (final SysexBuilder builder)
+    {
+        this.sendSysex (builder.toArray ());
+    }
+
+
     /**
      * Concatenates all given arrays.
      * 
@@ -36,6 +36,15 @@ public interface IMidiInput
     void setSysexCallback (MidiSysExCallback callback);
 
 
+    /**
+     * Set a callback for MIDI system exclusive messages coming from this input, which receives the
+     * decoded binary data. Replaces a callback set with setSysexCallback and vice versa.
+     *
+     * @param callback The callback
+     */
+    void setSysexDataCallback (MidiSysExDataCallback callback);
+
+
     /**
      * Create a note input.
      *
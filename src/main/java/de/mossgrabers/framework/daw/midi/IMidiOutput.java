@@ -143,6 +143,14 @@ public interface IMidiOutput
     void sendSysex (String data);
 
 
+    /**
+     * Send the system exclusive message of a builder to the output.
+     *
+     * @param builder The builder which contains the message
+     */
+    void sendSysex (SysexBuilder builder);
+
+
     /**
      * Configure one MPE zone with all 15 channels.
      *
@@ -0,0 +1,20 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2026
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.midi;
+
+/**
+ * Callback for receiving MIDI System exclusive messages as binary data.
+ *
+ * @author Jürgen Moßgraber
+ */
+public interface MidiSysExDataCallback
+{
+    /**
+     * Handle received MIDI system exclusive data.
+     *
+     * @param data The system exclusive data, one byte value (0-255) per element
+     */
+    void handleMidi (final int [] data);
+}
@@ -0,0 +1,198 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2026
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.midi;
+
+import java.util.Arrays;
+
+
+/**
+ * Builds system exclusive messages directly as bytes. The builder starts with a fixed header
+ * (including the leading F0) which is kept when the builder is reset. The data bytes can be patched
+ * in place for messages which only differ in a few bytes. The end byte (F7) is added when the
+ * message is retrieved.
+ *
+ * A builder is not thread-safe and the retrieved message array is re-used for the next message of
+ * the same length. Therefore, the message must be sent before the builder is used again.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class SysexBuilder
+{
+    private final int headerLength;
+    private byte []   buffer;
+    private int       position;
+    private byte []   message = new byte [0];
+
+
+    /**
+     * Constructor.
+     *
+     * @param header The header bytes of the message, must start with F0
+     */
+    public SysexBuilder (final int... header)
+    {
+        this.headerLength = header.length;
+        this.buffer = new byte [Math.max (64, header.length * 2)];
+        for (int i = 0; i < header.length; i++)
+            this.buffer[i] = (byte) header[i];
+        this.position = this.headerLength;
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param header The header bytes of the message, must start with F0
+     */
+    public SysexBuilder (final byte [] header)
+    {
+        this.headerLength = header.length;
+        this.buffer = new byte [Math.max (64, header.length * 2)];
+        System.arraycopy (header, 0, this.buffer, 0, header.length);
+        this.position = this.headerLength;
+    }
+
+
+    /**
+     * Remove all data bytes but keep the header.
+     *
+     * @return The builder for chaining
+     */
+    public SysexBuilder reset ()
+    {
+        this.position = this.headerLength;
+        return this;
+    }
+
+
+    /**
+     * Add a data byte. Only the lower 7 bits are used.
+     *
+     * @param value The value to add
+     * @return The builder for chaining
+     */
+    public SysexBuilder add (final int value)
+    {
+        this.ensureCapacity (1);
+        this.buffer[this.position++] = (byte) (value & 0x7F);
+        return this;
+    }
+
+
+    /**
+     * Add several data bytes. Only the lower 7 bits of each value are used.
+     *
+     * @param values The values to add
+     * @return The builder for chaining
+     */
+    public SysexBuilder add (final int... values)
+    {
+        this.ensureCapacity (values.length);
+        for (final int value: values)
+            this.buffer[this.position++] = (byte) (value & 0x7F);
+        return this;
+    }
+
+
+    /**
+     * Add a value as 2 data bytes (LSB first) with 7 bits each.
+     *
+     * @param value The value to add, 0-16383
+     * @return The builder for chaining
+     */
+    public SysexBuilder add14Bit (final int value)
+    {
+        this.ensureCapacity (2);
+        this.buffer[this.position++] = (byte) (value & 0x7F);
+        this.buffer[this.position++] = (byte) (value >> 7 & 0x7F);
+        return this;
+    }
+
+
+    /**
+     * Add the characters of a text, one byte per character. Non-ASCII characters are replaced by a
+     * question mark.
+     *
+     * @param text The text to add
+     * @return The builder for chaining
+     */
+    public SysexBuilder addText (final String text)
+    {
+        return this.addText (text, 0, text.length ());
+    }
+
+
+    /**
+     * Add a part of the characters of a text, one byte per character. Non-ASCII characters are
+     * replaced by a question mark.
+     *
+     * @param text The text to add
+     * @param start The index of the first character to add
+     * @param end The index after the last character to add
+     * @return The builder for chaining
+     */
+    public SysexBuilder addText (final String text, final int start, final int end)
+    {
+        this.ensureCapacity (end - start);
+        for (int i = start; i < end; i++)
+        {
+            final char c = text.charAt (i);
+            this.buffer[this.position++] = (byte) (c < 128 ? c : '?');
+        }
+        return this;
+    }
+
+
+    /**
+     * Overwrite an already added data byte. Only the lower 7 bits are used.
+     *
+     * @param index The index of the byte in the message (including the header)
+     * @param value The new value
+     * @return The builder for chaining
+     */
+    public SysexBuilder set (final int index, final int value)
+    {
+        if (index < this.headerLength || index >= this.position)
+            throw new IndexOutOfBoundsException ("Index " + index + " is outside of the data range.");
+        this.buffer[index] = (byte) (value & 0x7F);
+        return this;
+    }
+
+
+    /**
+     * Get the number of bytes added so far, including the header.
+     *
+     * @return The number of bytes
+     */
+    public int getPosition ()
+    {
+        return this.position;
+    }
+
+
+    /**
+     * Get the message including the end byte (F7). The returned array is re-used for the next
+     * message of the same length.
+     *
+     * @return The message
+     */
+    public byte [] toArray ()
+    {
+        final int length = this.position + 1;
+        if (this.message.length != length)
+            this.message = new byte [length];
+        System.arraycopy (this.buffer, 0, this.message, 0, this.position);
+        this.message[this.position] = (byte) 0xF7;
+        return this.message;
+    }
+
+
+    private void ensureCapacity (final int additional)
+    {
+        final int required = this.position + additional;
+        if (required > this.buffer.length)
+            this.buffer = Arrays.copyOf (this.buffer, Math.max (required, this.buffer.length * 2));
+    }
+}
@@ -20,4 +20,30 @@ public interface IComponent
      * @param info All necessary information to draw the component
      */
     void draw (final IGraphicsInfo info);
+
+
+    /**
+     * Draw only the parts of the component which reach into the separators to the neighbouring
+     * elements, e.g. a line which connects it to the next element. The draw method draws them as
+     * well but they are cut off if the component is drawn into a bitmap of the size of its element.
+     *
+     * @param info All necessary information to draw the component
+     */
+    default void drawOutsideBounds (final IGraphicsInfo info)
+    {
+        // Intentionally empty
+    }
+
+
+    /**
+     * Does the component draw only inside of the bounds it is given and the separators to the
+     * neighbouring elements (see drawOutsideBounds)? Components which reach further into the
+     * neighbouring elements must return false.
+     *
+     * @return True if nothing else is drawn outside of the bounds
+     */
+    default boolean isInsideBounds ()
+    {
+        return true;
+    }
 }
@@ -118,6 +118,28 @@ public class LabelComponent implements IComponent
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void drawOutsideBounds (final IGraphicsInfo info)
+    {
+        if (this.layout != LabelLayout.SMALL_HEADER)
+            return;
+
+        final IGraphicsConfiguration configuration = info.getConfiguration ();
+        final IBounds bounds = info.getBounds ();
+        final IGraphicsDimensions dimensions = info.getDimensions ();
+        final double separatorSize = dimensions.getSeparatorSize ();
+        final double menuHeight = dimensions.getMenuHeight ();
+        final IGraphicsContext gc = info.getContext ();
+
+        // Remove the previous menus border line or continue the line to the next menu
+        if (this.text == null || this.text.length () == 0)
+            gc.fillRectangle (bounds.left () - separatorSize, menuHeight - 2, separatorSize, 1, configuration.getColorBorder ());
+        else
+            gc.fillRectangle (bounds.left () + bounds.width (), menuHeight - 2.0, separatorSize, 1, ColorEx.calcContrastColor (this.getBackgroundColor (configuration)));
+    }
+
+
     /**
      * Draws the label in the SEPARATE_COLOR layout.
      *
@@ -72,6 +72,14 @@ public class MenuComponent implements IComponent
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void drawOutsideBounds (final IGraphicsInfo info)
+    {
+        this.header.drawOutsideBounds (info);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public int hashCode ()
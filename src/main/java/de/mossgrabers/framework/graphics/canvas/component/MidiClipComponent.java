@@ -4,6 +4,9 @@
 
 package de.mossgrabers.framework.graphics.canvas.component;
 
+import java.util.Arrays;
+import java.util.Objects;
+
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.daw.clip.INoteClip;
 import de.mossgrabers.framework.daw.clip.IStepInfo;
@@ -19,15 +22,34 @@ import de.mossgrabers.framework.utils.StringUtils;
 
 
 /**
- * A component which displays the notes of a MIDI clip.
+ * A component which displays the notes of a MIDI clip. The state of the clip is copied when the
+ * component is created, therefore two components are equal if they draw the same notes and the
+ * rendered component can be re-used as long as the clip does not change. The play cursor is not part
+ * of the component but drawn as an overlay (see {@link PlayCursorOverlayComponent}), since it moves
+ * while the clip is playing.
  *
  * @author Jürgen Moßgraber
  */
 public class MidiClipComponent implements IComponent
 {
-    private final INoteClip    clip;
-    private final int          quartersPerMeasure;
-    private final NotePosition activePosition;
+    private static final int FLAG_START    = 1;
+    private static final int FLAG_SELECTED = 2;
+    private static final int FLAG_MUTED    = 4;
+    private static final int FLAG_ACTIVE   = 8;
+
+    private final int        quartersPerMeasure;
+    private final ColorEx    clipColor;
+    private final int        numSteps;
+    private final double     stepLength;
+    private final int        editPage;
+    private final boolean    isLoopEnabled;
+    private final double     loopStart;
+    private final double     loopLength;
+    private final double     playStart;
+    private final double     playEnd;
+    private final int        lowerRowWithData;
+    private final int        upperRowWithData;
+    private final int []     notes;
 
 
     /**
@@ -39,9 +61,67 @@ public class MidiClipComponent implements IComponent
      */
     public MidiClipComponent (final INoteClip clip, final int quartersPerMeasure, final NotePosition activePosition)
     {
-        this.clip = clip;
         this.quartersPerMeasure = quartersPerMeasure;
-        this.activePosition = activePosition;
+        this.clipColor = clip.getColor ();
+        this.numSteps = clip.getNumSteps ();
+        this.stepLength = clip.getStepLength ();
+        this.editPage = clip.getEditPage ();
+        this.isLoopEnabled = clip.isLoopEnabled ();
+        this.loopStart = clip.getLoopStart ();
+        this.loopLength = clip.getLoopLength ();
+        this.playStart = clip.getPlayStart ();
+        this.playEnd = clip.getPlayEnd ();
+        this.lowerRowWithData = clip.getLowestRowWithData ();
+        this.upperRowWithData = clip.getHighestRowWithData ();
+        this.notes = this.collectNotes (clip, activePosition);
+    }
+
+
+    /**
+     * Collect all visible notes of the clip.
+     *
+     * @param clip The clip
+     * @param activePosition The position of a note which should be marked as active
+     * @return The notes, each one encoded as note, step, channel and flags
+     */
+    private int [] collectNotes (final INoteClip clip, final NotePosition activePosition)
+    {
+        if (this.lowerRowWithData == -1)
+            return new int [0];
+
+        int [] result = new int [64];
+        int count = 0;
+        final NotePosition notePosition = new NotePosition ();
+        for (int note = this.lowerRowWithData; note <= this.upperRowWithData; note++)
+        {
+            notePosition.setNote (note);
+            for (int step = 0; step < this.numSteps; step++)
+            {
+                notePosition.setStep (step);
+                for (int channel = 0; channel < 16; channel++)
+                {
+                    notePosition.setChannel (channel);
+
+                    final IStepInfo stepInfo = clip.getStep (notePosition);
+                    final StepState stepState = stepInfo.getState ();
+                    if (stepState == StepState.OFF)
+                        continue;
+
+                    int flags = stepState == StepState.START ? FLAG_START : 0;
+                    if (stepInfo.isSelected ())
+                        flags |= FLAG_SELECTED;
+                    if (stepInfo.isMuted ())
+                        flags |= FLAG_MUTED;
+                    if (activePosition != null && activePosition.equals (notePosition))
+                        flags |= FLAG_ACTIVE;
+
+                    if (count == result.length)
+                        result = Arrays.copyOf (result, count * 2);
+                    result[count++] = note << 20 | step << 8 | channel << 4 | flags;
+                }
+            }
+        }
+        return Arrays.copyOf (result, count);
     }
 
 
@@ -56,8 +136,7 @@ public class MidiClipComponent implements IComponent
 
         final ColorEx dividersColor = configuration.getColorBackgroundDarker ();
 
-        final ColorEx clipColor = this.clip.getColor ();
-        final ColorEx noteColor = this.clip.getColor ();
+        final ColorEx noteColor = this.clipColor;
         final ColorEx noteActiveColor = ColorEx.WHITE;
         final ColorEx noteMutedColor = ColorEx.DARK_GRAY;
         final ColorEx noteGridLoopColor = configuration.getColorBackground ();
@@ -76,53 +155,46 @@ public class MidiClipComponent implements IComponent
         gc.fillRectangle (left, top, width, noteAreaHeight, gridBackground);
 
         // Draw the loop, if any and ...
-        final int numSteps = this.clip.getNumSteps ();
-        final double stepLength = this.clip.getStepLength ();
-        final double pageLength = numSteps * stepLength;
-        final int editPage = this.clip.getEditPage ();
-        final double startPos = editPage * pageLength;
-        final double endPos = (editPage + 1) * pageLength;
+        final double pageLength = this.numSteps * this.stepLength;
+        final double startPos = this.editPage * pageLength;
+        final double endPos = (this.editPage + 1) * pageLength;
         final int len = top - 1;
-        if (this.clip.isLoopEnabled ())
+        if (this.isLoopEnabled)
         {
-            final double loopStart = this.clip.getLoopStart ();
-            final double loopLength = this.clip.getLoopLength ();
             // ... the loop is visible in the current page
-            if (loopStart < endPos && loopStart + loopLength > startPos)
+            if (this.loopStart < endPos && this.loopStart + this.loopLength > startPos)
             {
-                final double start = Math.max (0, loopStart - startPos);
-                final double end = Math.min (endPos, loopStart + loopLength) - startPos;
+                final double start = Math.max (0, this.loopStart - startPos);
+                final double end = Math.min (endPos, this.loopStart + this.loopLength) - startPos;
                 final double x = width * start / pageLength;
                 final double w = width * end / pageLength - x;
                 // The header loop
-                gc.fillRectangle (x + 1, 0, w, len, clipColor);
+                gc.fillRectangle (x + 1, 0, w, len, this.clipColor);
 
                 // Background in note area
                 gc.fillRectangle (x + 1, top, w, noteAreaHeight, noteGridLoopColor);
             }
         }
         // Draw play start in header
-        final double playStart = this.clip.getPlayStart ();
-        if (playStart >= startPos && playStart <= endPos)
+        if (this.playStart >= startPos && this.playStart <= endPos)
         {
-            final double start = playStart - startPos;
+            final double start = this.playStart - startPos;
             final double x = width * start / pageLength;
-            gc.fillTriangle (x + 1, 0, x + 1 + len, len / 2.0, x + 1, len, clipColor);
-            gc.strokeTriangle (x + 1, 0, x + 1 + len, len / 2.0, x + 1, len, ColorEx.evenDarker (clipColor));
+            gc.fillTriangle (x + 1, 0, x + 1 + len, len / 2.0, x + 1, len, this.clipColor);
+            gc.strokeTriangle (x + 1, 0, x + 1 + len, len / 2.0, x + 1, len, ColorEx.evenDarker (this.clipColor));
         }
         // Draw play end in header
-        final double playEnd = this.clip.getPlayEnd ();
-        if (playEnd >= startPos && playEnd <= endPos)
+        if (this.playEnd >= startPos && this.playEnd <= endPos)
         {
-            final double end = playEnd - startPos;
+            final double end = this.playEnd - startPos;
             final double x = width * end / pageLength;
-            gc.fillTriangle (x + 1, 0, x + 1, len, x + 1 - top, len / 2.0, clipColor);
-            gc.strokeTriangle (x + 1, 0, x + 1, len, x + 1 - top, len / 2.0, ColorEx.evenDarker (clipColor));
+            gc.fillTriangle (x + 1, 0, x + 1, len, x + 1 - top, len / 2.0, this.clipColor);
+            gc.strokeTriangle (x + 1, 0, x + 1, len, x + 1 - top, len / 2.0, ColorEx.evenDarker (this.clipColor));
         }
 
         // Draw dividers
-        final double stepWidth = width / numSteps;
-        for (int step = 0; step <= numSteps; step++)
+        final double stepWidth = width / this.numSteps;
+        for (int step = 0; step <= this.numSteps; step++)
         {
             final double x = left + step * stepWidth;
             gc.fillRectangle (x, top, 1, noteAreaHeight, dividersColor);
@@ -130,75 +202,96 @@ public class MidiClipComponent implements IComponent
             // Draw measure texts
             if (step % 4 == 0)
             {
-                final double time = startPos + step * stepLength;
+                final double time = startPos + step * this.stepLength;
                 final String measureText = StringUtils.formatMeasures (this.quartersPerMeasure, time, 1, false);
                 gc.drawTextInHeight (measureText, x, 0, top - 1.0, measureTextColor, top);
             }
         }
 
         // Draw the notes
-        final int lowerRowWithData = this.clip.getLowestRowWithData ();
-        if (lowerRowWithData == -1)
+        if (this.lowerRowWithData == -1)
             return;
-        final int upperRowWithData = this.clip.getHighestRowWithData ();
         // Display at least 4 rows
-        final int range = Math.max (4, 1 + upperRowWithData - lowerRowWithData);
+        final int range = Math.max (4, 1 + this.upperRowWithData - this.lowerRowWithData);
         final double stepHeight = noteAreaHeight / range;
 
-        final double fontSize = gc.calculateFontSize ("G#5", stepHeight, stepWidth, 12.0);
+        for (int row = 0; row < range; row++)
+            gc.fillRectangle (left, top + (range - row - 1) * stepHeight, width, 1, dividersColor);
 
-        final NotePosition notePosition = new NotePosition ();
+        final double fontSize = gc.calculateFontSize ("G#5", stepHeight, stepWidth, 12.0);
+        final ColorEx textColor = ColorEx.calcContrastColor (noteColor);
 
-        for (int row = 0; row < range; row++)
+        for (final int note: this.notes)
         {
-            notePosition.setNote (lowerRowWithData + row);
-            gc.fillRectangle (left, top + (range - row - 1) * stepHeight, width, 1, dividersColor);
+            final int row = (note >> 20) - this.lowerRowWithData;
+            final int step = note >> 8 & 0xFFF;
+            final int channel = note >> 4 & 0xF;
+            final int flags = note & 0xF;
 
-            for (int step = 0; step < numSteps; step++)
+            double x = left + step * stepWidth - 1;
+            double w = stepWidth + 2;
+            final boolean isStart = (flags & FLAG_START) > 0;
+            if (isStart)
             {
-                notePosition.setStep (step);
+                x += 2;
+                w -= 2;
+            }
 
-                // Get step, check for length
-                for (int channel = 0; channel < 16; channel++)
-                {
-                    notePosition.setChannel (channel);
+            ColorEx stepNoteBackgroundColor = (flags & FLAG_SELECTED) > 0 ? ColorEx.evenDarker (noteColor) : noteColor;
+            if ((flags & FLAG_ACTIVE) > 0)
+                stepNoteBackgroundColor = noteActiveColor;
+            else if ((flags & FLAG_MUTED) > 0)
+                stepNoteBackgroundColor = noteMutedColor;
 
-                    final IStepInfo stepInfo = this.clip.getStep (notePosition);
-                    final StepState stepState = stepInfo.getState ();
-                    if (stepState == StepState.OFF)
-                        continue;
+            final double y = top + (range - row - 1) * stepHeight + 2;
+            gc.strokeRectangle (x, y, w, stepHeight - 2, noteBorderColor);
+            gc.fillRectangle (x + (isStart ? 0 : -2), y, w - 1 + (isStart ? 0 : 2), stepHeight - 3, stepNoteBackgroundColor);
 
-                    double x = left + step * stepWidth - 1;
-                    double w = stepWidth + 2;
-                    final boolean isStart = stepState == StepState.START;
-                    if (isStart)
-                    {
-                        x += 2;
-                        w -= 2;
-                    }
-
-                    ColorEx stepNoteBackgroundColor = stepInfo.isSelected () ? ColorEx.evenDarker (noteColor) : noteColor;
-                    if (this.activePosition != null && this.activePosition.equals (notePosition))
-                        stepNoteBackgroundColor = noteActiveColor;
-                    else if (stepInfo.isMuted ())
-                        stepNoteBackgroundColor = noteMutedColor;
-
-                    gc.strokeRectangle (x, top + (range - row - 1) * stepHeight + 2, w, stepHeight - 2, noteBorderColor);
-                    gc.fillRectangle (x + (isStart ? 0 : -2), top + (range - row - 1) * stepHeight + 2, w - 1 + (isStart ? 0 : 2), stepHeight - 3, stepNoteBackgroundColor);
-
-                    if (isStart && fontSize > 0)
-                    {
-                        final String text = channel + 1 + ": " + Scales.formatDrumNote (notePosition.getNote ());
-                        final ColorEx textColor = ColorEx.calcContrastColor (noteColor);
-                        gc.drawTextInBounds (text, x, top + (range - row - 1) * stepHeight + 2, w - 1, stepHeight - 3, Align.CENTER, textColor, fontSize);
-                    }
-                }
+            if (isStart && fontSize > 0)
+            {
+                final String text = channel + 1 + ": " + Scales.formatDrumNote (note >> 20);
+                gc.drawTextInBounds (text, x, y, w - 1, stepHeight - 3, Align.CENTER, textColor, fontSize);
             }
         }
+    }
+
 
-        // Draw the play cursor
-        final int playStep = this.clip.getCurrentStep ();
-        if (playStep >= 0)
-            gc.fillRectangle (left + playStep * stepWidth - 1, 0, 3, height, measureTextColor);
+    /** {@inheritDoc} */
+    @Override
+    public int hashCode ()
+    {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + (this.clipColor == null ? 0 : this.clipColor.hashCode ());
+        result = prime * result + this.quartersPerMeasure;
+        result = prime * result + this.numSteps;
+        result = prime * result + Double.hashCode (this.stepLength);
+        result = prime * result + this.editPage;
+        result = prime * result + (this.isLoopEnabled ? 1231 : 1237);
+        result = prime * result + Double.hashCode (this.loopStart);
+        result = prime * result + Double.hashCode (this.loopLength);
+        result = prime * result + Double.hashCode (this.playStart);
+        result = prime * result + Double.hashCode (this.playEnd);
+        result = prime * result + this.lowerRowWithData;
+        result = prime * result + this.upperRowWithData;
+        result = prime * result + Arrays.hashCode (this.notes);
+        return result;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean equals (final Object obj)
+    {
+        if (this == obj)
+            return true;
+        if (obj == null || this.getClass () != obj.getClass ())
+            return false;
+        final MidiClipComponent other = (MidiClipComponent) obj;
+        if (!Objects.equals (this.clipColor, other.clipColor) || this.quartersPerMeasure != other.quartersPerMeasure || this.numSteps != other.numSteps || Double.compare (this.stepLength, other.stepLength) != 0 || this.editPage != other.editPage)
+            return false;
+        if (this.isLoopEnabled != other.isLoopEnabled || Double.compare (this.loopStart, other.loopStart) != 0 || Double.compare (this.loopLength, other.loopLength) != 0 || Double.compare (this.playStart, other.playStart) != 0 || Double.compare (this.playEnd, other.playEnd) != 0)
+            return false;
+        return this.lowerRowWithData == other.lowerRowWithData && this.upperRowWithData == other.upperRowWithData && Arrays.equals (this.notes, other.notes);
     }
 }
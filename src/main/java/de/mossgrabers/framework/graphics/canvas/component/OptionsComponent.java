@@ -99,6 +99,15 @@ public class OptionsComponent implements IComponent
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean isInsideBounds ()
+    {
+        // The header texts are not clipped and reach into the next elements
+        return (this.headerTop == null || this.headerTop.isEmpty ()) && (this.headerBottom == null || this.headerBottom.isEmpty ());
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public int hashCode ()
@@ -0,0 +1,77 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2026
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.graphics.canvas.component;
+
+import de.mossgrabers.framework.controller.color.ColorEx;
+import de.mossgrabers.framework.graphics.IGraphicsInfo;
+
+
+/**
+ * The play cursor of a MIDI clip, which is drawn on top of the rendered notes of the clip.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class PlayCursorOverlayComponent implements IComponent
+{
+    private final double left;
+    private final double width;
+    private final int    numSteps;
+    private final int    playStep;
+
+
+    /**
+     * Constructor.
+     *
+     * @param left The left side of the displayed clip
+     * @param width The width of the displayed clip
+     * @param numSteps The number of displayed steps
+     * @param playStep The step at the play position, -1 if not visible
+     */
+    public PlayCursorOverlayComponent (final double left, final double width, final int numSteps, final int playStep)
+    {
+        this.left = left;
+        this.width = width;
+        this.numSteps = numSteps;
+        this.playStep = playStep;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void draw (final IGraphicsInfo info)
+    {
+        if (this.playStep < 0)
+            return;
+        final double stepWidth = this.width / this.numSteps;
+        info.getContext ().fillRectangle (this.left + this.playStep * stepWidth - 1, 0, 3, info.getBounds ().height (), ColorEx.WHITE);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int hashCode ()
+    {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + Double.hashCode (this.left);
+        result = prime * result + Double.hashCode (this.width);
+        result = prime * result + this.numSteps;
+        result = prime * result + this.playStep;
+        return result;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean equals (final Object obj)
+    {
+        if (this == obj)
+            return true;
+        if (obj == null || this.getClass () != obj.getClass ())
+            return false;
+        final PlayCursorOverlayComponent other = (PlayCursorOverlayComponent) obj;
+        return Double.compare (this.left, other.left) == 0 && Double.compare (this.width, other.width) == 0 && this.numSteps == other.numSteps && this.playStep == other.playStep;
+    }
+}
@@ -151,6 +151,29 @@ public class SendsComponent extends ChannelSelectComponent
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void drawOutsideBounds (final IGraphicsInfo info)
+    {
+        super.drawOutsideBounds (info);
+
+        if (!this.isExMode)
+            return;
+
+        // The background of the slider area in the extension mode reaches into the left separator
+        final IGraphicsDimensions dimensions = info.getDimensions ();
+        final double separatorSize = dimensions.getSeparatorSize ();
+        final double menuHeight = dimensions.getMenuHeight ();
+        final double unit = dimensions.getUnit ();
+
+        final int trackRowHeight = (int) (1.6 * unit);
+        final double trackRowTop = info.getBounds ().height () - trackRowHeight - unit - separatorSize;
+        final double t = menuHeight + 1;
+        final double h = trackRowTop - t;
+        info.getContext ().fillRectangle (info.getBounds ().left () - separatorSize, t, separatorSize, h - 2, this.modifyIfOff (true, info.getConfiguration ().getColorBackgroundLighter ()));
+    }
+
+
     protected ColorEx modifyIfOff (final boolean isEnabled, final ColorEx color)
     {
         return this.isSendActive && isEnabled ? color : ColorEx.dimToGray (color);
@@ -28,7 +28,7 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     protected final IOpenSoundControlConfiguration configuration;
 
     protected final IOpenSoundControlClient        oscClient;
-    protected final Map<String, Object>            oldValues = new HashMap<> ();
+    private final Map<String, CachedValue>         oldValues = new HashMap<> ();
 
     private final List<IOpenSoundControlMessage>   messages  = new ArrayList<> ();
 
@@ -126,7 +126,10 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
         final int r = (int) Math.round (red * 255.0);
         final int g = (int) Math.round (green * 255.0);
         final int b = (int) Math.round (blue * 255.0);
-        this.sendOSC (address, "rgb(" + r + "," + g + "," + b + ")", dump);
+
+        final CachedValue cachedValue = this.getCachedValue (address);
+        if (cachedValue.update (ValueType.COLOR, r << 16 | g << 8 | b, dump))
+            this.addMessage (address, "rgb(" + r + "," + g + "," + b + ")");
     }
 
 
@@ -134,7 +137,9 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     @Override
     public void sendOSC (final String address, final boolean value, final boolean dump)
     {
-        this.sendOSC (address, Boolean.valueOf (value), dump);
+        final int intValue = value ? 1 : 0;
+        if (this.getCachedValue (address).update (ValueType.BOOLEAN, intValue, dump))
+            this.addMessage (address, Integer.valueOf (intValue));
     }
 
 
@@ -143,7 +148,9 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     public void sendOSC (final String address, final double value, final boolean dump)
     {
         // Using float here since Double seems to be always received as 0 in Max.
-        this.sendOSC (address, Float.valueOf ((float) value), dump);
+        final float floatValue = (float) value;
+        if (this.getCachedValue (address).update (ValueType.FLOAT, Float.floatToIntBits (floatValue), dump))
+            this.addMessage (address, Float.valueOf (floatValue));
     }
 
 
@@ -151,7 +158,8 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     @Override
     public void sendOSC (final String address, final int value, final boolean dump)
     {
-        this.sendOSC (address, Integer.valueOf (value), dump);
+        if (this.getCachedValue (address).update (ValueType.INTEGER, value, dump))
+            this.addMessage (address, Integer.valueOf (value));
     }
 
 
@@ -159,7 +167,9 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     @Override
     public void sendOSC (final String address, final String value, final boolean dump)
     {
-        this.sendOSC (address, (Object) StringUtils.fixASCII (value), dump);
+        // Compares the original text to not convert it on each flush
+        if (this.getCachedValue (address).update (ValueType.STRING, value, dump))
+            this.addMessage (address, StringUtils.fixASCII (value));
     }
 
 
@@ -191,10 +201,19 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
      */
     protected void sendOSC (final String cacheAddress, final String address, final Object testValue, final Object value, final boolean dump)
     {
-        if (!dump && compareValues (this.oldValues.get (cacheAddress), testValue))
-            return;
-        this.oldValues.put (cacheAddress, testValue);
+        if (this.getCachedValue (cacheAddress).update (ValueType.OBJECT, testValue, dump))
+            this.addMessage (address, value);
+    }
 
+
+    /**
+     * Adds a message to the messages list. The message will be sent when flush gets called.
+     *
+     * @param address The address of the OSC message
+     * @param value The value(s) of the OSC message
+     */
+    private void addMessage (final String address, final Object value)
+    {
         // Convert the value to a list in case it is not already one
         final List<?> list;
         if (value instanceof final List<?> l)
@@ -211,6 +230,24 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     }
 
 
+    /**
+     * Get the cache entry for an address. It is created on first use.
+     *
+     * @param address The address
+     * @return The cache entry
+     */
+    private CachedValue getCachedValue (final String address)
+    {
+        CachedValue cachedValue = this.oldValues.get (address);
+        if (cachedValue == null)
+        {
+            cachedValue = new CachedValue ();
+            this.oldValues.put (address, cachedValue);
+        }
+        return cachedValue;
+    }
+
+
     /**
      * Check if the client is connected.
      *
@@ -297,4 +334,67 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     {
         return false;
     }
+
+
+    /**
+     * The type of a cached value.
+     */
+    private enum ValueType
+    {
+        NONE,
+        BOOLEAN,
+        INTEGER,
+        FLOAT,
+        COLOR,
+        STRING,
+        OBJECT
+    }
+
+
+    /**
+     * The last sent value of an address. Primitive values are stored without boxing.
+     */
+    private static class CachedValue
+    {
+        private ValueType type = ValueType.NONE;
+        private int       intValue;
+        private Object    objectValue;
+
+
+        /**
+         * Update the cache with a primitive value.
+         *
+         * @param newType The type of the value
+         * @param newValue The value or its bit representation
+         * @param dump True to ignore the cache
+         * @return True if the value has changed or dump is true
+         */
+        boolean update (final ValueType newType, final int newValue, final boolean dump)
+        {
+            if (!dump && this.type == newType && this.intValue == newValue)
+                return false;
+            this.type = newType;
+            this.intValue = newValue;
+            this.objectValue = null;
+            return true;
+        }
+
+
+        /**
+         * Update the cache with an object value.
+         *
+         * @param newType The type of the value
+         * @param newValue The value
+         * @param dump True to ignore the cache
+         * @return True if the value has changed or dump is true
+         */
+        boolean update (final ValueType newType, final Object newValue, final boolean dump)
+        {
+            if (!dump && this.type == newType && compareValues (this.objectValue, newValue))
+                return false;
+            this.type = newType;
+            this.objectValue = newValue;
+            return true;
+        }
+    }
 }
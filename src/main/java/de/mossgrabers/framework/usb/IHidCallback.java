@@ -12,7 +12,8 @@ package de.mossgrabers.framework.usb;
 public interface IHidCallback
 {
     /**
-     * Called when ready to process the results.
+     * Called when ready to process the results. The data array is re-used for the next report,
+     * therefore it must not be kept after the method returns.
      *
      * @param reportID The report (= function/method) number
      * @param data The received data
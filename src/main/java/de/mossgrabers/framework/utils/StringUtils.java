@@ -19,7 +19,7 @@ import de.mossgrabers.framework.controller.color.ColorEx;
  */
 public class StringUtils
 {
-    private static final char [] REMOVABLE_CHARS =
+    private static final char []           REMOVABLE_CHARS  =
     {
         ' ',
         'e',
@@ -29,6 +29,11 @@ public class StringUtils
         'o'
     };
 
+    /** The length of cache entries for texts which were not shortened. */
+    private static final int               NO_LENGTH        = -1;
+    private static final int               CACHE_MASK       = 1023;
+    private static final NormalizedText [] NORMALIZED_TEXTS = new NormalizedText [CACHE_MASK + 1];
+
 
     /**
      * Constructor, private due to help class.
@@ -98,8 +103,20 @@ public class StringUtils
     {
         if (text == null)
             return "";
-        final StringBuilder str = new StringBuilder ();
-        for (int i = 0; i < text.length (); i++)
+
+        // Most texts are pure ASCII, return them unchanged
+        int start = 0;
+        while (start < text.length () && text.charAt (start) <= 127)
+            start++;
+        if (start == text.length ())
+            return text;
+
+        final NormalizedText cached = getNormalizedText (text, NO_LENGTH);
+        if (cached != null)
+            return cached.result ();
+
+        final StringBuilder str = new StringBuilder (text.length () + 8).append (text, 0, start);
+        for (int i = start; i < text.length (); i++)
         {
             final char c = text.charAt (i);
             if (c > 127)
@@ -172,7 +189,7 @@ public class StringUtils
             else
                 str.append (c);
         }
-        return str.toString ();
+        return putNormalizedText (text, NO_LENGTH, str.toString ());
     }
 
 
@@ -187,16 +204,7 @@ public class StringUtils
     {
         if (text == null)
             return "";
-        final StringBuilder str = new StringBuilder ();
-        for (int i = 0; i < text.length (); i++)
-        {
-            final char c = text.charAt (i);
-            if (c == '♯')
-                str.append ("#");
-            else
-                str.append (c);
-        }
-        return str.toString ();
+        return text.indexOf ('♯') < 0 ? text : text.replace ('♯', '#');
     }
 
 
@@ -226,21 +234,75 @@ public class StringUtils
     {
         if (text == null)
             return "";
+        if (text.length () <= length)
+            return text;
+
+        final NormalizedText cached = getNormalizedText (text, length);
+        if (cached != null)
+            return cached.result ();
+        return putNormalizedText (text, length, optimizeNameUncached (text, length));
+    }
+
+
+    /**
+     * Shortens a text to the given length by removing the removable characters (in the order of
+     * their priority, each one from left to right) until the text is short enough. If that is not
+     * sufficient, the text is cut off.
+     *
+     * @param text The text to shorten
+     * @param length The length to shorten to
+     * @return The shortened text
+     */
+    private static String optimizeNameUncached (final String text, final int length)
+    {
+        if (text.length () <= length)
+            return text;
 
-        String shortened = text;
+        final char [] chars = text.toCharArray ();
+        int size = chars.length;
         for (final char element: REMOVABLE_CHARS)
         {
-            if (shortened.length () <= length)
-                return shortened;
-            int pos;
-            while ((pos = shortened.indexOf (element)) != -1)
+            int dest = 0;
+            for (int i = 0; i < size; i++)
             {
-                shortened = shortened.substring (0, pos) + shortened.substring (pos + 1, shortened.length ());
-                if (shortened.length () <= length)
-                    return shortened;
+                // The current length of the text is the size minus the characters removed so far
+                if (chars[i] == element && size - (i - dest) > length)
+                    continue;
+                chars[dest++] = chars[i];
             }
+            size = dest;
+            if (size <= length)
+                return new String (chars, 0, size);
         }
-        return shortened.length () <= length ? shortened : shortened.substring (0, length);
+        return new String (chars, 0, length);
+    }
+
+
+    /**
+     * Lookup the result of a previous normalization of the identical text object.
+     *
+     * @param text The source text
+     * @param length The length to which the text was shortened or NO_LENGTH
+     * @return The cache entry or null if not present
+     */
+    private static NormalizedText getNormalizedText (final String text, final int length)
+    {
+        // Reading a reference is atomic and the entry is immutable, therefore no locking is needed
+        final NormalizedText entry = NORMALIZED_TEXTS[getCacheSlot (text, length)];
+        return entry != null && entry.source () == text && entry.length () == length ? entry : null;
+    }
+
+
+    private static String putNormalizedText (final String text, final int length, final String result)
+    {
+        NORMALIZED_TEXTS[getCacheSlot (text, length)] = new NormalizedText (text, length, result);
+        return result;
+    }
+
+
+    private static int getCacheSlot (final String text, final int length)
+    {
+        return System.identityHashCode (text) * 31 + length & CACHE_MASK;
     }
 
 
@@ -365,7 +427,11 @@ public class StringUtils
         for (int i = 0; i < size; i++)
         {
             final int pos = i * 2;
-            result[i] = Integer.parseInt (data.substring (pos, pos + 2), 16);
+            final int high = Character.digit (data.charAt (pos), 16);
+            final int low = Character.digit (data.charAt (pos + 1), 16);
+            if (high < 0 || low < 0)
+                throw new NumberFormatException ("Not a hex value: " + data.substring (pos, pos + 2));
+            result[i] = high << 4 | low;
         }
         return result;
     }
@@ -521,4 +587,17 @@ public class StringUtils
     {
         return toHexStr (color.toIntRGB255 (), false);
     }
+
+
+    /**
+     * The result of a normalization of a text.
+     *
+     * @param source The source text
+     * @param length The length to which the text was shortened or NO_LENGTH
+     * @param result The normalized text
+     */
+    private record NormalizedText (String source, int length, String result)
+    {
+        // Intentionally empty
+    }
 }
@@ -0,0 +1,234 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2026
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.utils;
+
+import de.mossgrabers.framework.daw.IHost;
+
+
+/**
+ * A hashed timer wheel for short timeouts like the detection of long button presses. All timers of
+ * a host share one wheel (see IHost.getTimerWheel) which is driven by a single task scheduled with
+ * the IHost.scheduleTask method as long as there are timers running. The timeouts are measured with
+ * the system clock, therefore the granularity is one tick and the latency of the host scheduler is
+ * only measured once for all timers (and continuously adapted).
+ *
+ * The wheel is not thread-safe and must only be used from the thread which executes the scheduled
+ * tasks of the host.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class TimerWheel
+{
+    private static final int TICK_LENGTH = 20;
+    private static final int NUM_SLOTS   = 64;
+    private static final int SLOT_MASK   = NUM_SLOTS - 1;
+    private static final int NO_SLOT     = -1;
+    private static final int EXPIRED     = -2;
+
+    private final IHost      host;
+    private final Timer []   slots       = new Timer [NUM_SLOTS];
+    private long             currentTick;
+    private int              pending     = 0;
+    private boolean          isTicking   = false;
+    private long             tickScheduled;
+    private int              tickDelay   = TICK_LENGTH;
+    private double           latency     = 0;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host to schedule the ticks with
+     */
+    public TimerWheel (final IHost host)
+    {
+        this.host = host;
+    }
+
+
+    /**
+     * Create a timer which executes the given task when it expires. A timer can be started and
+     * cancelled as often as necessary.
+     *
+     * @param task The task to execute
+     * @return The timer
+     */
+    public Timer createTimer (final Runnable task)
+    {
+        return new Timer (task);
+    }
+
+
+    private void add (final Timer timer)
+    {
+        final long now = System.currentTimeMillis ();
+        if (!this.isTicking)
+            this.currentTick = now / TICK_LENGTH;
+
+        // Round up to the tick at which the timer is expired
+        long tick = (timer.deadline + TICK_LENGTH - 1) / TICK_LENGTH;
+        if (tick <= this.currentTick)
+            tick = this.currentTick + 1;
+
+        final int slot = (int) (tick & SLOT_MASK);
+        timer.slot = slot;
+        timer.previous = null;
+        timer.next = this.slots[slot];
+        if (timer.next != null)
+            timer.next.previous = timer;
+        this.slots[slot] = timer;
+        this.pending++;
+
+        if (!this.isTicking)
+        {
+            this.isTicking = true;
+            this.scheduleTick (now);
+        }
+    }
+
+
+    private void remove (final Timer timer)
+    {
+        if (timer.previous == null)
+            this.slots[timer.slot] = timer.next;
+        else
+            timer.previous.next = timer.next;
+        if (timer.next != null)
+            timer.next.previous = timer.previous;
+
+        timer.previous = null;
+        timer.next = null;
+        timer.slot = NO_SLOT;
+        this.pending--;
+    }
+
+
+    private void scheduleTick (final long now)
+    {
+        this.tickScheduled = now;
+        this.host.scheduleTask (this::tick, this.tickDelay);
+    }
+
+
+    private void tick ()
+    {
+        final long now = System.currentTimeMillis ();
+        this.calibrate (now - this.tickScheduled);
+
+        // Collect all expired timers first since executing the tasks might start or cancel timers
+        Timer expired = null;
+        final long nowTick = now / TICK_LENGTH;
+        final long ticks = Math.min (nowTick - this.currentTick, NUM_SLOTS);
+        for (long t = 1; t <= ticks; t++)
+        {
+            Timer timer = this.slots[(int) (this.currentTick + t & SLOT_MASK)];
+            while (timer != null)
+            {
+                final Timer next = timer.next;
+                if (timer.deadline <= now)
+                {
+                    this.remove (timer);
+                    timer.slot = EXPIRED;
+                    timer.nextExpired = expired;
+                    expired = timer;
+                }
+                timer = next;
+            }
+        }
+        if (nowTick > this.currentTick)
+            this.currentTick = nowTick;
+
+        while (expired != null)
+        {
+            final Timer timer = expired;
+            expired = timer.nextExpired;
+            timer.nextExpired = null;
+            // Might have been cancelled or restarted by a previously executed task
+            if (timer.slot != EXPIRED)
+                continue;
+            timer.slot = NO_SLOT;
+            timer.task.run ();
+        }
+
+        if (this.pending > 0)
+            this.scheduleTick (System.currentTimeMillis ());
+        else
+            this.isTicking = false;
+    }
+
+
+    /**
+     * Adapt the delay which is requested from the host to the measured latency of the host
+     * scheduler, so that a tick takes about TICK_LENGTH milliseconds.
+     *
+     * @param duration The measured duration of the last tick
+     */
+    private void calibrate (final long duration)
+    {
+        this.latency = this.latency * 0.875 + (duration - this.tickDelay) * 0.125;
+        this.tickDelay = Math.max (1, (int) Math.round (TICK_LENGTH - this.latency));
+    }
+
+
+    /**
+     * A timer on the wheel.
+     */
+    public final class Timer
+    {
+        private final Runnable task;
+        private long           deadline;
+        private int            slot = NO_SLOT;
+        private Timer          previous;
+        private Timer          next;
+        private Timer          nextExpired;
+
+
+        /**
+         * Constructor.
+         *
+         * @param task The task to execute when the timer expires
+         */
+        private Timer (final Runnable task)
+        {
+            this.task = task;
+        }
+
+
+        /**
+         * Start the timer. If the timer is already running it is restarted.
+         *
+         * @param delay The delay in milliseconds after which the task is executed
+         */
+        public void start (final int delay)
+        {
+            this.cancel ();
+            this.deadline = System.currentTimeMillis () + delay;
+            TimerWheel.this.add (this);
+        }
+
+
+        /**
+         * Cancel the timer, if it is running.
+         */
+        public void cancel ()
+        {
+            if (this.slot >= 0)
+                TimerWheel.this.remove (this);
+            else
+                this.slot = NO_SLOT;
+        }
+
+
+        /**
+         * Is the timer running?
+         *
+         * @return True if started and not yet expired or cancelled
+         */
+        public boolean isRunning ()
+        {
+            return this.slot != NO_SLOT;
+        }
+    }
+}
@@ -58,6 +58,15 @@ public abstract class AbstractDrumExView<S extends IControlSurface<C>, C extends
     protected boolean          useExtraToggleButton            = true;
     protected int              firstExtraPad;
 
+    private final int []       selectColorIDs;
+    private final int []       muteColorIDs;
+    private final int []       soloColorIDs;
+    private final int []       browseColorIDs;
+    private final int []       noteRepeatColorIDs;
+    private final int []       noteRepeatPeriodColorIDs;
+    private final int []       noteRepeatLengthColorIDs;
+    private final int []       toggleColorIDs;
+
 
     /**
      * Constructor.
@@ -74,6 +83,16 @@ public abstract class AbstractDrumExView<S extends IControlSurface<C>, C extends
         super (name, surface, model, numSequencerLines, numPlayLines, useDawColors);
 
         this.firstExtraPad = (this.playRows - 2) * this.playColumns;
+
+        // Resolve the colors of the extra buttons once since they are drawn with every flush
+        this.selectColorIDs = this.getColorIDs (COLOR_EX_SELECT_ON, COLOR_EX_SELECT_OFF);
+        this.muteColorIDs = this.getColorIDs (COLOR_EX_MUTE_ON, COLOR_EX_MUTE_OFF);
+        this.soloColorIDs = this.getColorIDs (COLOR_EX_SOLO_ON, COLOR_EX_SOLO_OFF);
+        this.browseColorIDs = this.getColorIDs (COLOR_EX_BROWSE_ON, COLOR_EX_BROWSE_OFF);
+        this.noteRepeatColorIDs = this.getColorIDs (COLOR_EX_NOTE_REPEAT_ON, COLOR_EX_NOTE_REPEAT_OFF);
+        this.noteRepeatPeriodColorIDs = this.getColorIDs (COLOR_EX_NOTE_REPEAT_PERIOD_ON, COLOR_EX_NOTE_REPEAT_PERIOD_OFF);
+        this.noteRepeatLengthColorIDs = this.getColorIDs (COLOR_EX_NOTE_REPEAT_LENGTH_ON, COLOR_EX_NOTE_REPEAT_LENGTH_OFF);
+        this.toggleColorIDs = this.getColorIDs (COLOR_EX_TOGGLE_ON, COLOR_EX_TOGGLE_OFF);
     }
 
 
@@ -143,20 +162,36 @@ public abstract class AbstractDrumExView<S extends IControlSurface<C>, C extends
         {
             int row = this.allRows - 2;
 
-            padGrid.lightEx (4, row, this.colorManager.getColorIndex (this.isSelectTrigger () ? COLOR_EX_SELECT_ON : COLOR_EX_SELECT_OFF));
-            padGrid.lightEx (5, row, this.colorManager.getColorIndex (this.isMuteTrigger () ? COLOR_EX_MUTE_ON : COLOR_EX_MUTE_OFF));
-            padGrid.lightEx (6, row, this.colorManager.getColorIndex (this.isSoloTrigger () ? COLOR_EX_SOLO_ON : COLOR_EX_SOLO_OFF));
-            padGrid.lightEx (7, row, this.colorManager.getColorIndex (this.isBrowseTrigger () ? COLOR_EX_BROWSE_ON : COLOR_EX_BROWSE_OFF));
+            padGrid.lightEx (4, row, this.getColorIndex (this.selectColorIDs, this.isSelectTrigger ()));
+            padGrid.lightEx (5, row, this.getColorIndex (this.muteColorIDs, this.isMuteTrigger ()));
+            padGrid.lightEx (6, row, this.getColorIndex (this.soloColorIDs, this.isSoloTrigger ()));
+            padGrid.lightEx (7, row, this.getColorIndex (this.browseColorIDs, this.isBrowseTrigger ()));
 
             final INoteRepeat noteRepeat = this.surface.getMidiInput ().getDefaultNoteInput ().getNoteRepeat ();
 
             row++;
-            padGrid.lightEx (4, row, this.colorManager.getColorIndex (noteRepeat.isActive () ? COLOR_EX_NOTE_REPEAT_ON : COLOR_EX_NOTE_REPEAT_OFF));
-            padGrid.lightEx (5, row, this.colorManager.getColorIndex (this.noteRepeatPeriodOn ? COLOR_EX_NOTE_REPEAT_PERIOD_ON : COLOR_EX_NOTE_REPEAT_PERIOD_OFF));
-            padGrid.lightEx (6, row, this.colorManager.getColorIndex (this.noteRepeatLengthOn ? COLOR_EX_NOTE_REPEAT_LENGTH_ON : COLOR_EX_NOTE_REPEAT_LENGTH_OFF));
+            padGrid.lightEx (4, row, this.getColorIndex (this.noteRepeatColorIDs, noteRepeat.isActive ()));
+            padGrid.lightEx (5, row, this.getColorIndex (this.noteRepeatPeriodColorIDs, this.noteRepeatPeriodOn));
+            padGrid.lightEx (6, row, this.getColorIndex (this.noteRepeatLengthColorIDs, this.noteRepeatLengthOn));
         }
 
         if (this.useExtraToggleButton || this.extraButtonsOn)
-            padGrid.lightEx (7, this.allRows - 1, this.colorManager.getColorIndex (this.extraButtonsOn ? COLOR_EX_TOGGLE_ON : COLOR_EX_TOGGLE_OFF));
+            padGrid.lightEx (7, this.allRows - 1, this.getColorIndex (this.toggleColorIDs, this.extraButtonsOn));
+    }
+
+
+    private int [] getColorIDs (final String onColor, final String offColor)
+    {
+        return new int []
+        {
+            this.colorManager.getColorID (onColor),
+            this.colorManager.getColorID (offColor)
+        };
+    }
+
+
+    private int getColorIndex (final int [] colorIDs, final boolean isOn)
+    {
+        return this.colorManager.getColorIndexByID (colorIDs[isOn ? 0 : 1]);
     }
 }